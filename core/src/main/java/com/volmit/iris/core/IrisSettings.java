@@ -123,6 +123,7 @@ public class IrisSettings {
         public boolean forcePersistEntities = true;
         public boolean anbientEntitySpawningSystem = true;
         public long asyncTickIntervalMS = 700;
+        public double updateTickBudgetMS = 2;
         public double targetSpawnEntitiesPerChunk = 0.95;
         public boolean markerEntitySpawningSystem = true;
         public boolean effectSystem = true;
@@ -138,10 +139,13 @@ public class IrisSettings {
     public static class IrisSettingsPerformance {
         public boolean trimMantleInStudio = false; 
         public int mantleKeepAlive = 30;
+        public int mantleMemoryBudget = 0;
         public int cacheSize = 4_096;
+        public int streamCacheChunks = 1_024;
         public int resourceLoaderCacheSize = 1_024;
         public int objectLoaderCacheSize = 4_096;
         public int scriptLoaderCacheSize = 512;
+        public int rotatedObjectCacheMB = 64;
     }
 
     @Data
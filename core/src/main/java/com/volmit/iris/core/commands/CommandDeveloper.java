@@ -26,6 +26,8 @@ import com.volmit.iris.core.nms.datapack.DataVersion;
 import com.volmit.iris.core.nms.v1X.NMSBinding1X;
 import com.volmit.iris.core.pregenerator.ChunkUpdater;
 import com.volmit.iris.core.service.IrisEngineSVC;
+import com.volmit.iris.core.service.PreservationSVC;
+import com.volmit.iris.core.tools.IrisMantleBenchmarking;
 import com.volmit.iris.core.tools.IrisPackBenchmarking;
 import com.volmit.iris.core.tools.IrisToolbelt;
 import com.volmit.iris.engine.framework.Engine;
@@ -48,6 +50,7 @@ import com.volmit.iris.util.math.Vector3d;
 import com.volmit.iris.util.nbt.mca.MCAFile;
 import com.volmit.iris.util.nbt.mca.MCAUtil;
 import com.volmit.iris.util.plugin.VolmitSender;
+import com.volmit.iris.util.scheduling.MainThreadWorkQueue;
 import io.lumine.mythic.bukkit.adapters.BukkitEntity;
 import net.jpountz.lz4.LZ4BlockInputStream;
 import net.jpountz.lz4.LZ4BlockOutputStream;
@@ -86,6 +89,7 @@ public class CommandDeveloper implements DecreeExecutor {
 
         long lowestUnloadDuration = 0;
         long highestUnloadDuration = 0;
+        long TotalTectonicMemory = 0;
 
         for (World world : Bukkit.getWorlds()) {
             try {
@@ -102,6 +106,7 @@ public class CommandDeveloper implements DecreeExecutor {
             TotalQueuedTectonicPlates += (int) engine.getMantle().getToUnload();
             TotalNotQueuedTectonicPlates += (int) engine.getMantle().getNotQueuedLoadedRegions();
             TotalTectonicPlates += engine.getMantle().getLoadedRegionCount();
+            TotalTectonicMemory += engine.getMantle().getMemoryUsage();
             if (highestUnloadDuration <= (long) engine.getMantle().getTectonicDuration()) {
                 highestUnloadDuration = (long) engine.getMantle().getTectonicDuration();
             }
@@ -121,9 +126,12 @@ public class CommandDeveloper implements DecreeExecutor {
         Iris.info(C.DARK_PURPLE + "Tectonic Total Plates: " + C.LIGHT_PURPLE + TotalTectonicPlates);
         Iris.info(C.DARK_PURPLE + "Tectonic Active Plates: " + C.LIGHT_PURPLE + TotalNotQueuedTectonicPlates);
         Iris.info(C.DARK_PURPLE + "Tectonic ToUnload: " + C.LIGHT_PURPLE + TotalQueuedTectonicPlates);
+        Iris.info(C.DARK_PURPLE + "Tectonic Memory: " + C.LIGHT_PURPLE + Form.memSize(TotalTectonicMemory, 1) + " / " + Form.memSize(IrisEngineSVC.getMantleMemoryBudget(), 1));
         Iris.info(C.DARK_PURPLE + "Lowest Tectonic Unload Duration: " + C.LIGHT_PURPLE + Form.duration(lowestUnloadDuration));
         Iris.info(C.DARK_PURPLE + "Highest Tectonic Unload Duration: " + C.LIGHT_PURPLE + Form.duration(highestUnloadDuration));
         Iris.info(C.DARK_PURPLE + "Cache Size: " + C.LIGHT_PURPLE + Form.f(IrisData.cacheSize()));
+        Iris.info(C.DARK_PURPLE + "Main Thread Backlog: " + C.LIGHT_PURPLE + Form.f(MainThreadWorkQueue.getBacklog()) + " tasks in " + Form.f(MainThreadWorkQueue.getBacklogChunks()) + " chunks");
+        Iris.service(PreservationSVC.class).printCaches();
         Iris.info("-------------------------");
     }
 
@@ -148,6 +156,44 @@ public class CommandDeveloper implements DecreeExecutor {
 
     }
 
+    @Decree(description = "Benchmark mantle planning throughput with a growing amount of cores")
+    public void mantleScaling(
+            @Param(description = "The world to bench", aliases = {"world"})
+            World world,
+            @Param(description = "The radius in chunks planned per run", defaultValue = "8")
+            int radius
+    ) {
+        if (!IrisToolbelt.isIrisWorld(world)) {
+            sender().sendMessage(C.RED + "This is not an Iris world.");
+            return;
+        }
+
+        Engine engine = IrisToolbelt.access(world).getEngine();
+        IrisMantleBenchmarking benchmark = new IrisMantleBenchmarking(engine, sender(), radius);
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        service.submit(benchmark::run);
+        service.shutdown();
+    }
+
+    @Decree(description = "Measure how context injected stream lookups scale with the amount of threads")
+    public void contextScaling(
+            @Param(description = "The world to bench", aliases = {"world"})
+            World world,
+            @Param(description = "The radius in chunks resolved per run", defaultValue = "8")
+            int radius
+    ) {
+        if (!IrisToolbelt.isIrisWorld(world)) {
+            sender().sendMessage(C.RED + "This is not an Iris world.");
+            return;
+        }
+
+        Engine engine = IrisToolbelt.access(world).getEngine();
+        IrisMantleBenchmarking benchmark = new IrisMantleBenchmarking(engine, sender(), radius);
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        service.submit(benchmark::runContext);
+        service.shutdown();
+    }
+
     @Decree(description = "Test")
     public void packBenchmark(
             @Param(description = "The pack to bench", aliases = {"pack"})
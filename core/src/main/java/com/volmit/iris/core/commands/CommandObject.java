@@ -25,6 +25,7 @@ import com.volmit.iris.core.service.ObjectSVC;
 import com.volmit.iris.core.service.StudioSVC;
 import com.volmit.iris.core.service.WandSVC;
 import com.volmit.iris.engine.framework.Engine;
+import com.volmit.iris.engine.framework.placer.WorldEditBatch;
 import com.volmit.iris.engine.object.*;
 import com.volmit.iris.util.data.Cuboid;
 import com.volmit.iris.util.decree.DecreeExecutor;
@@ -56,7 +57,7 @@ public class CommandObject implements DecreeExecutor {
     private static final Set<Material> skipBlocks = Set.of(E.getOrDefault(Material.class, "GRASS", "SHORT_GRASS"), Material.SNOW, Material.VINE, Material.TORCH, Material.DEAD_BUSH,
             Material.POPPY, Material.DANDELION);
 
-    public static IObjectPlacer createPlacer(World world, Map<Block, BlockData> futureBlockChanges) {
+    public static IObjectPlacer createPlacer(World world, Map<Block, BlockData> futureBlockChanges, WorldEditBatch batch) {
 
         return new IObjectPlacer() {
             @Override
@@ -78,12 +79,13 @@ public class CommandObject implements DecreeExecutor {
 
                 futureBlockChanges.put(block, block.getBlockData());
 
-                block.setBlockData(d);
+                batch.set(x, y, z, d);
             }
 
             @Override
             public BlockData get(int x, int y, int z) {
-                return world.getBlockAt(x, y, z).getBlockData();
+                BlockData d = batch.get(x, y, z);
+                return d != null ? d : world.getBlockAt(x, y, z).getBlockData();
             }
 
             @Override
@@ -98,7 +100,7 @@ public class CommandObject implements DecreeExecutor {
 
             @Override
             public boolean isSolid(int x, int y, int z) {
-                return world.getBlockAt(x, y, z).getType().isSolid();
+                return get(x, y, z).getMaterial().isSolid();
             }
 
             @Override
@@ -118,9 +120,11 @@ public class CommandObject implements DecreeExecutor {
 
             @Override
             public void setTile(int xx, int yy, int zz, TileData<? extends TileState> tile) {
-                BlockState state = world.getBlockAt(xx, yy, zz).getState();
-                tile.toBukkitTry(state);
-                state.update();
+                batch.after(() -> {
+                    BlockState state = world.getBlockAt(xx, yy, zz).getState();
+                    tile.toBukkitTry(state);
+                    state.update();
+                });
             }
 
             @Override
@@ -334,7 +338,9 @@ public class CommandObject implements DecreeExecutor {
             o = o.scaled(scale, IrisObjectPlacementScaleInterpolator.TRICUBIC);
         }
 
-        o.place(block.getBlockX(), block.getBlockY() + (int) o.getCenter().getY(), block.getBlockZ(), createPlacer(block.getWorld(), futureChanges), placement, new RNG(), null);
+        WorldEditBatch batch = new WorldEditBatch(block.getWorld());
+        o.place(block.getBlockX(), block.getBlockY() + (int) o.getCenter().getY(), block.getBlockZ(), createPlacer(block.getWorld(), futureChanges, batch), placement, new RNG(), null);
+        batch.apply();
 
         Iris.service(ObjectSVC.class).addChanges(futureChanges);
 
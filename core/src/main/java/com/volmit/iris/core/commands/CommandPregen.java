@@ -70,6 +70,41 @@ public class CommandPregen implements DecreeExecutor {
         }
     }
 
+    @Decree(description = "Pregenerate region files directly into a separate folder, bypassing the server's chunk system")
+    public void headless(
+            @Param(description = "The radius of the pregen in blocks", aliases = "size")
+            int radius,
+            @Param(description = "The world to pregen", contextual = true)
+            World world,
+            @Param(aliases = "middle", description = "The center location of the pregen. Use \"me\" for your current location", defaultValue = "0,0")
+            Vector center
+    ) {
+        if (!IrisToolbelt.isIrisWorld(world)) {
+            sender().sendMessage(C.RED + "This is not an Iris world.");
+            return;
+        }
+
+        try {
+            radius = Math.max(radius, 1024);
+            int w = (radius >> 9 + 1) * 2;
+            File output = new File(Bukkit.getWorldContainer(), world.getName() + "-headless");
+            IrisToolbelt.pregenerateHeadless(PregenTask
+                    .builder()
+                    .center(new Position2(center.getBlockX() >> 9, center.getBlockZ() >> 9))
+                    .gui(true)
+                    .width(w)
+                    .height(w)
+                    .build(), IrisToolbelt.access(world).getEngine(), output);
+            String msg = C.GREEN + "Headless pregen started for " + C.GOLD + world.getName() + C.GREEN + " into " + C.GOLD + output.getPath();
+            sender().sendMessage(msg);
+            Iris.info(msg);
+        } catch (Throwable e) {
+            sender().sendMessage(C.RED + "Epic fail. See console.");
+            Iris.reportError(e);
+            e.printStackTrace();
+        }
+    }
+
     @Decree(description = "Stop the active pregeneration task", aliases = "x")
     public void stop() {
         if (PregeneratorJob.shutdownInstance()) {
@@ -33,6 +33,7 @@ import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.WorldCreator;
 import org.bukkit.block.Biome;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Dolphin;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
@@ -124,4 +125,33 @@ public interface INMSBinding {
     default int getSpawnChunkCount(World world) {
         return 441;
     }
+
+    /**
+     * Write whole chunk sections straight into the chunk that is being generated.
+     * Every section is a packed array of palette ids in (y << 8) | (z << 4) | x order, a null section
+     * or an id of 0 leaves the blocks untouched. Block entities are created for states that need one.
+     *
+     * @param data     the chunk data handed to the generator
+     * @param palette  the palette shared by all sections, index 0 is unused
+     * @param sections the packed sections from the bottom of the world up
+     * @return false if the chunk data can't be written directly and has to be set block by block
+     */
+    default boolean setSections(ChunkGenerator.ChunkData data, BlockData[] palette, char[][] sections) {
+        return false;
+    }
+
+    /**
+     * Write blocks into a loaded chunk without physics. Heightmaps are kept up to date, block entities are
+     * removed when the block type changes, and every changed block is checked for light and sent to clients.
+     * Positions are packed as (y << 8) | (z << 4) | x with y relative to the bottom of the world.
+     *
+     * @param chunk     the chunk
+     * @param positions the packed positions
+     * @param blocks    the block for each position
+     * @param count     how many positions to write
+     * @return false if the blocks can't be written directly and have to be set through bukkit
+     */
+    default boolean setBlocks(Chunk chunk, int[] positions, BlockData[] blocks, int count) {
+        return false;
+    }
 }
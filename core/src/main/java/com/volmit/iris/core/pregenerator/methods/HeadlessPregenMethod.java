@@ -0,0 +1,150 @@
+/*
+ * Iris is a World Generator for Minecraft Bukkit Servers
+ * Copyright (c) 2022 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.volmit.iris.core.pregenerator.methods;
+
+import com.volmit.iris.Iris;
+import com.volmit.iris.core.nms.INMS;
+import com.volmit.iris.core.pregenerator.PregenListener;
+import com.volmit.iris.core.pregenerator.PregenTask;
+import com.volmit.iris.core.pregenerator.PregeneratorMethod;
+import com.volmit.iris.engine.data.chunk.MCATerrainChunk;
+import com.volmit.iris.engine.framework.Engine;
+import com.volmit.iris.util.collection.KList;
+import com.volmit.iris.util.hunk.Hunk;
+import com.volmit.iris.util.mantle.Mantle;
+import com.volmit.iris.util.nbt.mca.Chunk;
+import com.volmit.iris.util.nbt.mca.MCAFile;
+import com.volmit.iris.util.nbt.mca.NBTWorld;
+import com.volmit.iris.util.parallel.BurstExecutor;
+import com.volmit.iris.util.parallel.MultiBurst;
+
+import java.io.File;
+import java.util.Objects;
+import java.util.concurrent.Future;
+
+/**
+ * Generates whole regions straight into .mca files without going through the server's chunk system.
+ * Chunks are generated into {@link MCATerrainChunk}s on the burst pool and every finished region is
+ * written on a worker thread, the main thread is never touched.
+ * <p>
+ * The output folder must not be the region folder of a loaded world, the server would overwrite it.
+ * The chunks are planned in the engine's mantle but never marked as real, the live world hasn't generated them.
+ */
+public class HeadlessPregenMethod implements PregeneratorMethod {
+    private final Engine engine;
+    private final NBTWorld writer;
+    private final MultiBurst burst;
+    private final KList<Future<?>> saves;
+
+    public HeadlessPregenMethod(Engine engine, File worldFolder) {
+        this.engine = engine;
+        this.writer = new NBTWorld(worldFolder);
+        this.burst = MultiBurst.burst;
+        this.saves = new KList<>();
+        new File(worldFolder, "region").mkdirs();
+    }
+
+    private void waitForSaves(int maxWaiting) {
+        saves.removeWhere(Objects::isNull);
+
+        while (saves.size() > maxWaiting) {
+            try {
+                saves.remove(0).get();
+            } catch (Throwable e) {
+                Iris.reportError(e);
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Override
+    public void init() {
+
+    }
+
+    @Override
+    public void close() {
+        waitForSaves(0);
+        writer.close();
+    }
+
+    @Override
+    public void save() {
+        waitForSaves(4);
+    }
+
+    @Override
+    public boolean supportsRegions(int x, int z, PregenListener listener) {
+        return true;
+    }
+
+    @Override
+    public String getMethod(int x, int z) {
+        return "Headless";
+    }
+
+    @Override
+    public void generateRegion(int x, int z, PregenListener listener) {
+        MCAFile mca = writer.getMCA(x, z);
+        BurstExecutor b = burst.burst(1024);
+        PregenTask.iterateRegion(x, z, (cx, cz) -> {
+            Chunk chunk = writer.getNewChunk(mca, cx, cz);
+            b.queue(() -> generateChunk(cx, cz, chunk, listener));
+        });
+        b.complete();
+
+        waitForSaves(4);
+        saves.add(burst.complete(() -> writer.doSaveUnload(x, z)));
+    }
+
+    private void generateChunk(int x, int z, Chunk chunk, PregenListener listener) {
+        listener.onChunkGenerating(x, z);
+
+        try {
+            MCATerrainChunk tc = MCATerrainChunk.builder()
+                    .writer(writer)
+                    .ox(x << 4)
+                    .oz(z << 4)
+                    .minHeight(engine.getWorld().minHeight())
+                    .maxHeight(engine.getWorld().maxHeight())
+                    .mcaChunk(chunk)
+                    .injector((xx, yy, zz, biomeBase) -> chunk.setBiomeAt(xx & 15, yy, zz & 15,
+                            INMS.get().getTrueBiomeBaseId(biomeBase)))
+                    .build();
+            engine.generate(x << 4, z << 4, Hunk.view(tc), Hunk.view(tc, tc.getMinHeight(), tc.getMaxHeight()), false, false);
+        } catch (Throwable e) {
+            Iris.error("Failed to generate headless chunk " + x + " " + z);
+            Iris.reportError(e);
+            e.printStackTrace();
+        }
+
+        listener.onChunkGenerated(x, z);
+        listener.onChunkCleaned(x, z);
+    }
+
+    @Override
+    public void generateChunk(int x, int z, PregenListener listener) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Mantle getMantle() {
+        return engine.getMantle().getMantle();
+    }
+}
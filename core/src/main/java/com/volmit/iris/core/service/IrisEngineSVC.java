@@ -36,6 +36,7 @@ public class IrisEngineSVC implements IrisService {
     public boolean isServerShuttingDown = false;
     public boolean isServerLoaded = false;
     private static final AtomicInteger tectonicLimit = new AtomicInteger(30);
+    private static final AtomicLong mantleMemoryBudget = new AtomicLong(0);
     private ReentrantLock lastUseLock;
     private KMap<World, Long> lastUse;
     private List<World> IrisWorlds;
@@ -77,6 +78,8 @@ public class IrisEngineSVC implements IrisService {
             tectonicLimit.getAndAdd(1);
             t = t - 200;
         }
+        int budget = IrisSettings.get().getPerformance().getMantleMemoryBudget();
+        mantleMemoryBudget.set(budget > 0 ? budget * 1024L * 1024L : (long) (Runtime.getRuntime().maxMemory() * 0.4));
         this.setup();
         this.TrimLogic();
         this.UnloadLogic();
@@ -107,6 +110,14 @@ public class IrisEngineSVC implements IrisService {
         return tectonicLimit.get();
     }
 
+    /**
+     * The amount of bytes all loaded tectonic plates may retain together. Set through the mantle memory
+     * budget setting in megabytes, or 40% of the max heap if it is not set.
+     */
+    public static long getMantleMemoryBudget() {
+        return mantleMemoryBudget.get();
+    }
+
     @EventHandler
     public void onWorldUnload(WorldUnloadEvent event) {
         updateWorlds();
@@ -217,7 +228,7 @@ public class IrisEngineSVC implements IrisService {
                     try {
                         Engine engine = supplier.get();
                         if (engine != null) {
-                            engine.getMantle().trim(tectonicLimit.get() / lastUse.size());
+                            engine.getMantle().trim(mantleMemoryBudget.get() / lastUse.size());
                         }
                     } catch (Throwable e) {
                         Iris.reportError(e);
@@ -21,6 +21,7 @@ package com.volmit.iris.core.service;
 import com.volmit.iris.Iris;
 import com.volmit.iris.core.loader.IrisData;
 import com.volmit.iris.engine.framework.MeteredCache;
+import com.volmit.iris.engine.object.RotatedObjectCache;
 import com.volmit.iris.util.context.IrisContext;
 import com.volmit.iris.util.data.KCache;
 import com.volmit.iris.util.format.Form;
@@ -67,8 +68,16 @@ public class PreservationSVC implements IrisService {
         }
 
         mf = mf == 0 ? 1 : mf;
+        long h = caches.stream().filter(i -> !i.isClosed()).mapToLong(MeteredCache::getHits).sum();
+        long x = caches.stream().filter(i -> !i.isClosed()).mapToLong(MeteredCache::getMisses).sum();
+        long e = caches.stream().filter(i -> !i.isClosed()).mapToLong(MeteredCache::getEvictions).sum();
 
         Iris.info("Cached " + Form.f(s) + " / " + Form.f(m) + " (" + Form.pc(p / mf) + ") from " + caches.size() + " Caches");
+        Iris.info("Cache Hits: " + Form.f(h) + ", Misses: " + Form.f(x) + ", Evictions: " + Form.f(e) + " (" + Form.pc(h + x == 0 ? 0 : (double) h / (double) (h + x)) + " hit rate)");
+
+        long rh = RotatedObjectCache.getHits();
+        long rm = RotatedObjectCache.getMisses();
+        Iris.info("Rotated Objects: " + Form.f(RotatedObjectCache.getEntries()) + " objects, " + Form.memSize(RotatedObjectCache.getBytes(), 1) + " / " + Form.memSize(RotatedObjectCache.getMaxBytes(), 1) + " (" + Form.pc(rh + rm == 0 ? 0 : (double) rh / (double) (rh + rm)) + " hit rate)");
     }
 
     public void dereference() {
@@ -22,6 +22,7 @@ import com.volmit.iris.Iris;
 import com.volmit.iris.core.loader.IrisData;
 import com.volmit.iris.core.tools.IrisToolbelt;
 import com.volmit.iris.engine.framework.Engine;
+import com.volmit.iris.engine.framework.placer.WorldEditBatch;
 import com.volmit.iris.engine.object.*;
 import com.volmit.iris.engine.platform.PlatformChunkGenerator;
 import com.volmit.iris.util.collection.KList;
@@ -213,13 +214,17 @@ public class TreeSVC implements IrisService {
             block = false;
 
             if (!iGrow.isCancelled()) {
+                WorldEditBatch batch = new WorldEditBatch(event.getWorld());
+
                 for (BlockState block : iGrow.getBlocks()) {
                     Location l = block.getLocation();
 
                     if (dataCache.containsKey(l)) {
-                        l.getBlock().setBlockData(dataCache.get(l), false);
+                        batch.set(l.getBlockX(), l.getBlockY(), l.getBlockZ(), dataCache.get(l));
                     }
                 }
+
+                batch.apply();
             }
         });
     }
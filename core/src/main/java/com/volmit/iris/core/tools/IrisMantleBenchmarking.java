@@ -0,0 +1,162 @@
+/*
+ * Iris is a World Generator for Minecraft Bukkit Servers
+ * Copyright (c) 2022 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.volmit.iris.core.tools;
+
+import com.volmit.iris.Iris;
+import com.volmit.iris.engine.IrisEngineMantle;
+import com.volmit.iris.engine.framework.Engine;
+import com.volmit.iris.engine.mantle.EngineMantle;
+import com.volmit.iris.util.collection.KList;
+import com.volmit.iris.util.context.ChunkContext;
+import com.volmit.iris.util.context.IrisContext;
+import com.volmit.iris.util.format.C;
+import com.volmit.iris.util.format.Form;
+import com.volmit.iris.util.function.Consumer2;
+import com.volmit.iris.util.io.IO;
+import com.volmit.iris.util.plugin.VolmitSender;
+import com.volmit.iris.util.scheduling.PrecisionStopwatch;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Measures how the mantle planning stage scales with the amount of cores.
+ * Planning writes into a throwaway mantle in a temporary folder, never into the world's own mantle.
+ * Every run plans a fresh square of chunks so runs don't share planned chunks.
+ * The context run instead resolves the context injected biome streams for every column, which is
+ * dominated by {@link IrisContext} lookups and shows contention on it.
+ */
+public class IrisMantleBenchmarking {
+    private static final int ORIGIN = 50_000;
+    private final Engine engine;
+    private EngineMantle mantle;
+    private final VolmitSender sender;
+    private final int radius;
+
+    public IrisMantleBenchmarking(Engine engine, VolmitSender sender, int radius) {
+        this.engine = engine;
+        this.sender = sender;
+        this.radius = radius;
+    }
+
+    public void run() {
+        File folder;
+
+        try {
+            folder = Files.createTempDirectory("iris-mantle-benchmark").toFile();
+        } catch (IOException e) {
+            Iris.reportError(e);
+            sender.sendMessage(C.RED + "Failed to create a temporary mantle, see console.");
+            return;
+        }
+
+        mantle = new IrisEngineMantle(engine, folder);
+
+        try {
+            scale("mantle planning", this::plan);
+        } finally {
+            mantle.getMantle().close();
+            IO.delete(folder);
+        }
+    }
+
+    public void runContext() {
+        scale("context lookups", this::resolve);
+    }
+
+    private void scale(String name, Workload workload) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        KList<Integer> threadCounts = new KList<>();
+        for (int i = 1; i < cores; i <<= 1) {
+            threadCounts.add(i);
+        }
+        threadCounts.add(cores);
+
+        int stride = (radius * 2) + 1 + (engine.getMantle().getRealRadius() * 2) + 32;
+        int chunks = ((radius * 2) + 1) * ((radius * 2) + 1);
+        double base = 0;
+
+        sender.sendMessage(C.GREEN + "Benchmarking " + name + " of " + Form.f(chunks) + " chunks per run...");
+        for (int r = 0; r < threadCounts.size(); r++) {
+            int threads = threadCounts.get(r);
+            double cps = workload.run(threads, ORIGIN + (r * stride), ORIGIN);
+            if (r == 0) {
+                base = cps;
+            }
+
+            sender.sendMessage(C.GREEN + "- " + threads + " threads: " + C.GRAY + Form.f((int) cps) + " chunks/s"
+                    + (base > 0 ? " (" + Form.f(cps / base, 2) + "x)" : ""));
+        }
+        sender.sendMessage(C.GREEN + "Benchmark of " + name + " finished");
+    }
+
+    private double plan(int threads, int ox, int oz) {
+        return submit(threads, ox, oz, (x, z) -> mantle.generateMatter(x, z, false,
+                new ChunkContext(x << 4, z << 4, engine.getComplex(), false)));
+    }
+
+    private double resolve(int threads, int ox, int oz) {
+        return submit(threads, ox, oz, (x, z) -> {
+            IrisContext.getOr(engine).setChunkContext(new ChunkContext(x << 4, z << 4, engine.getComplex(), false));
+            for (int i = 0; i < 16; i++) {
+                for (int j = 0; j < 16; j++) {
+                    engine.getComplex().getBaseBiomeIDStream().get((x << 4) + i, (z << 4) + j);
+                    engine.getComplex().getTerrainSurfaceDecoration().get((x << 4) + i, (z << 4) + j);
+                }
+            }
+        });
+    }
+
+    private double submit(int threads, int ox, int oz, Consumer2<Integer, Integer> task) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        KList<Future<?>> futures = new KList<>();
+        PrecisionStopwatch p = PrecisionStopwatch.start();
+
+        try {
+            for (int i = -radius; i <= radius; i++) {
+                for (int j = -radius; j <= radius; j++) {
+                    int x = ox + i;
+                    int z = oz + j;
+                    futures.add(pool.submit(() -> task.accept(x, z)));
+                }
+            }
+
+            for (Future<?> i : futures) {
+                i.get();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            Iris.reportError(e);
+            e.printStackTrace();
+        } finally {
+            pool.shutdown();
+        }
+
+        p.end();
+        return futures.size() / Math.max(p.getMilliseconds() / 1000D, 0.001);
+    }
+
+    @FunctionalInterface
+    private interface Workload {
+        double run(int threads, int ox, int oz);
+    }
+}
@@ -24,6 +24,7 @@ import com.volmit.iris.core.gui.PregeneratorJob;
 import com.volmit.iris.core.loader.IrisData;
 import com.volmit.iris.core.pregenerator.PregenTask;
 import com.volmit.iris.core.pregenerator.PregeneratorMethod;
+import com.volmit.iris.core.pregenerator.methods.HeadlessPregenMethod;
 import com.volmit.iris.core.pregenerator.methods.HybridPregenMethod;
 import com.volmit.iris.core.service.StudioSVC;
 import com.volmit.iris.engine.framework.Engine;
@@ -157,6 +158,19 @@ public class IrisToolbelt {
                 IrisSettings.getThreadCount(IrisSettings.get().getConcurrency().getParallelism())), gen.getEngine());
     }
 
+    /**
+     * Start a headless pregenerator task which writes region files straight into the given folder
+     * without going through the server's chunk system.
+     *
+     * @param task        the scheduled task
+     * @param engine      the engine to generate with
+     * @param worldFolder the folder to write the region folder into
+     * @return the pregenerator job (already started)
+     */
+    public static PregeneratorJob pregenerateHeadless(PregenTask task, Engine engine, File worldFolder) {
+        return pregenerate(task, new HeadlessPregenMethod(engine, worldFolder), engine);
+    }
+
     /**
      * Start a pregenerator task. If the supplied generator is headless, headless mode is used,
      * otherwise Hybrid mode is used.
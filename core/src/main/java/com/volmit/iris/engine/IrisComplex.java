@@ -34,6 +34,7 @@ import com.volmit.iris.util.math.RNG;
 import com.volmit.iris.util.noise.CNG;
 import com.volmit.iris.util.stream.ProceduralStream;
 import com.volmit.iris.util.stream.interpolation.Interpolated;
+import com.volmit.iris.util.stream.primitive.DoubleStream2D;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -69,6 +70,7 @@ public class IrisComplex implements DataProvider {
     private ProceduralStream<Integer> roundedHeighteightStream;
     private ProceduralStream<Double> maxHeightStream;
     private ProceduralStream<Double> overlayStream;
+    private DoubleStream2D overlayDoubles;
     private ProceduralStream<Double> heightFluidStream;
     private ProceduralStream<Double> slopeStream;
     private ProceduralStream<Integer> topSurfaceStream;
@@ -89,7 +91,7 @@ public class IrisComplex implements DataProvider {
     }
 
     public IrisComplex(Engine engine, boolean simple) {
-        int cacheSize = IrisSettings.get().getPerformance().getCacheSize();
+        int cacheSize = IrisSettings.get().getPerformance().getStreamCacheChunks();
         IrisBiome emptyBiome = new IrisBiome();
         UUID focusUUID = UUID.nameUUIDFromBytes("focus".getBytes());
         this.rng = new RNG(engine.getSeedManager().getComplex());
@@ -111,14 +113,18 @@ public class IrisComplex implements DataProvider {
                 .getAllBiomes(this).forEach((b) -> b
                         .getGenerators()
                         .forEach((c) -> registerGenerator(c.getCachedGenerator(this)))));
-        overlayStream = ProceduralStream.ofDouble((x, z) -> 0.0D).waste("Overlay Stream");
-        engine.getDimension().getOverlayNoise().forEach(i -> overlayStream = overlayStream.add((x, z) -> i.get(rng, getData(), x, z)));
+        DoubleStream2D overlay = DoubleStream2D.constant(0);
+        for (IrisShapedGeneratorStyle i : engine.getDimension().getOverlayNoise()) {
+            overlay = overlay.add((x, z) -> i.get(rng, getData(), x, z));
+        }
+        overlayDoubles = overlay;
+        overlayStream = overlay.boxed().waste("Overlay Stream");
         rockStream = engine.getDimension().getRockPalette().getLayerGenerator(rng.nextParallelRNG(45), data).stream()
                 .select(engine.getDimension().getRockPalette().getBlockData(data)).waste("Rock Stream");
         fluidStream = engine.getDimension().getFluidPalette().getLayerGenerator(rng.nextParallelRNG(78), data).stream()
                 .select(engine.getDimension().getFluidPalette().getBlockData(data)).waste("Fluid Stream");
-        regionStyleStream = engine.getDimension().getRegionStyle().create(rng.nextParallelRNG(883), getData()).stream()
-                .zoom(engine.getDimension().getRegionZoom()).waste("Region Style");
+        regionStyleStream = DoubleStream2D.of(engine.getDimension().getRegionStyle().create(rng.nextParallelRNG(883), getData()).stream())
+                .zoom(engine.getDimension().getRegionZoom()).boxed().waste("Region Style");
         regionIdentityStream = regionStyleStream.fit(Integer.MIN_VALUE, Integer.MAX_VALUE).waste("Region Identity Stream");
         regionStream = focusRegion != null ?
                 ProceduralStream.of((x, z) -> focusRegion,
@@ -176,14 +182,12 @@ public class IrisComplex implements DataProvider {
                 bridgeStream.convertAware2D((t, x, z) -> inferredStreams.get(t).get(x, z))
                         .convertAware2D(this::implode)
                         .cache2D("baseBiomeStream", engine, cacheSize).waste("Base Biome Stream");
-        heightStream = ProceduralStream.of((x, z) -> {
-            IrisBiome b = focusBiome != null ? focusBiome : baseBiomeStream.get(x, z);
-            return getHeight(engine, b, x, z, engine.getSeedManager().getHeight());
-        }, Interpolated.DOUBLE).cache2D("heightStream", engine, cacheSize).waste("Height Stream");
-        roundedHeighteightStream = heightStream.contextInjecting((c, x, z) -> IrisContext.getOr(engine).getChunkContext().getHeight().get(x, z))
-                .round().waste("Rounded Height Stream");
-        slopeStream = heightStream.contextInjecting((c, x, z) -> IrisContext.getOr(engine).getChunkContext().getHeight().get(x, z))
-                .slope(3).cache2D("slopeStream", engine, cacheSize).waste("Slope Stream");
+        DoubleStream2D terrainHeight = ((DoubleStream2D) (x, z) -> getHeight(engine, x, z, engine.getSeedManager().getHeight()))
+                .cache2D("heightStream", engine, cacheSize);
+        DoubleStream2D contextHeight = terrainHeight.contextInjecting((c, x, z) -> c.getHeight().get(x, z));
+        heightStream = terrainHeight.boxed().waste("Height Stream");
+        roundedHeighteightStream = contextHeight.boxed().round().waste("Rounded Height Stream");
+        slopeStream = contextHeight.slope(3).cache2D("slopeStream", engine, cacheSize).boxed().waste("Slope Stream");
         trueBiomeStream = focusBiome != null ? ProceduralStream.of((x, y) -> focusBiome, Interpolated.of(a -> 0D,
                         b -> focusBiome))
                 .cache2D("trueBiomeStream-focus", engine, cacheSize) : heightStream
@@ -193,9 +197,8 @@ public class IrisComplex implements DataProvider {
                 .cache2D("trueBiomeStream", engine, cacheSize).waste("True Biome Stream");
         trueBiomeDerivativeStream = trueBiomeStream.contextInjecting((c, x, z) -> IrisContext.getOr(engine).getChunkContext().getBiome().get(x, z))
                 .convert(IrisBiome::getDerivative).cache2D("trueBiomeDerivativeStream", engine, cacheSize).waste("True Biome Derivative Stream");
-        heightFluidStream = heightStream.contextInjecting((c, x, z) -> IrisContext.getOr(engine).getChunkContext().getHeight().get(x, z))
-                .max(fluidHeight).cache2D("heightFluidStream", engine, cacheSize).waste("Height Fluid Stream");
-        maxHeightStream = ProceduralStream.ofDouble((x, z) -> height).waste("Max Height Stream");
+        heightFluidStream = contextHeight.max(fluidHeight).cache2D("heightFluidStream", engine, cacheSize).boxed().waste("Height Fluid Stream");
+        maxHeightStream = DoubleStream2D.constant(height).boxed().waste("Max Height Stream");
         terrainSurfaceDecoration = trueBiomeStream.contextInjecting((c, x, z) -> IrisContext.getOr(engine).getChunkContext().getBiome().get(x, z))
                 .convertAware2D((b, xx, zz) -> decorateFor(b, xx, zz, IrisDecorationPart.NONE)).cache2D("terrainSurfaceDecoration", engine, cacheSize).waste("Surface Decoration Stream");
         terrainCeilingDecoration = trueBiomeStream.contextInjecting((c, x, z) -> IrisContext.getOr(engine).getChunkContext().getBiome().get(x, z))
@@ -349,8 +352,8 @@ public class IrisComplex implements DataProvider {
         return h;
     }
 
-    private double getHeight(Engine engine, IrisBiome b, double x, double z, long seed) {
-        return Math.max(Math.min(getInterpolatedHeight(engine, x, z, seed) + fluidHeight + overlayStream.get(x, z), engine.getHeight()), 0);
+    private double getHeight(Engine engine, double x, double z, long seed) {
+        return Math.max(Math.min(getInterpolatedHeight(engine, x, z, seed) + fluidHeight + overlayDoubles.getDouble(x, z), engine.getHeight()), 0);
     }
 
     private void registerGenerator(IrisGenerator cachedGenerator) {
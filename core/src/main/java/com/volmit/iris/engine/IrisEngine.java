@@ -455,7 +455,7 @@ public class IrisEngine implements Engine {
 
     @BlockCoordinates
     @Override
-    public void generate(int x, int z, Hunk<BlockData> vblocks, Hunk<Biome> vbiomes, boolean multicore) throws WrongEngineBroException {
+    public void generate(int x, int z, Hunk<BlockData> vblocks, Hunk<Biome> vbiomes, boolean multicore, boolean real) throws WrongEngineBroException {
         if (closed) {
             throw new WrongEngineBroException();
         }
@@ -476,7 +476,10 @@ public class IrisEngine implements Engine {
                 mode.generate(x, z, blocks, vbiomes, multicore);
             }
 
-            getMantle().getMantle().flag(x >> 4, z >> 4, MantleFlag.REAL, true);
+            if (real) {
+                getMantle().getMantle().flag(x >> 4, z >> 4, MantleFlag.REAL, true);
+            }
+
             getMetrics().getTotal().put(p.getMilliseconds());
             generated.incrementAndGet();
 
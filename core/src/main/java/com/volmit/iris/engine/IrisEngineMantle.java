@@ -58,8 +58,12 @@ public class IrisEngineMantle implements EngineMantle {
     private final MantleJigsawComponent jigsaw;
 
     public IrisEngineMantle(Engine engine) {
+        this(engine, new File(engine.getWorld().worldFolder(), "mantle"));
+    }
+
+    public IrisEngineMantle(Engine engine, File folder) {
         this.engine = engine;
-        this.mantle = new Mantle(new File(engine.getWorld().worldFolder(), "mantle"), engine.getTarget().getHeight());
+        this.mantle = new Mantle(folder, engine.getTarget().getHeight());
         radius = radCache.aquire(this::computeParallaxSize);
         components = new KList<>();
         registerComponent(new MantleCarvingComponent(this));
@@ -23,11 +23,13 @@ import com.volmit.iris.engine.framework.Engine;
 import com.volmit.iris.engine.framework.EngineAssignedActuator;
 import com.volmit.iris.engine.object.IrisBiome;
 import com.volmit.iris.engine.object.IrisBiomeCustom;
+import com.volmit.iris.util.collection.KMap;
 import com.volmit.iris.util.context.ChunkContext;
 import com.volmit.iris.util.documentation.BlockCoordinates;
 import com.volmit.iris.util.hunk.Hunk;
 import com.volmit.iris.util.math.RNG;
 import com.volmit.iris.util.matter.MatterBiomeInject;
+import com.volmit.iris.util.matter.MatterSlice;
 import com.volmit.iris.util.matter.slices.BiomeInjectMatter;
 import com.volmit.iris.util.scheduling.ChronoLatch;
 import com.volmit.iris.util.scheduling.PrecisionStopwatch;
@@ -36,6 +38,8 @@ import org.bukkit.block.Biome;
 public class IrisBiomeActuator extends EngineAssignedActuator<Biome> {
     private final RNG rng;
     private final ChronoLatch cl = new ChronoLatch(5000);
+    private final KMap<String, MatterBiomeInject> customBiomes = new KMap<>();
+    private final MatterBiomeInject[] skyBiomes = new MatterBiomeInject[Biome.values().length];
 
     public IrisBiomeActuator(Engine engine) {
         super(engine, "Biome");
@@ -47,6 +51,11 @@ public class IrisBiomeActuator extends EngineAssignedActuator<Biome> {
     public void onActuate(int x, int z, Hunk<Biome> h, boolean multicore, ChunkContext context) {
         try {
             PrecisionStopwatch p = PrecisionStopwatch.start();
+            MatterSlice<MatterBiomeInject> slice = getEngine().getMantle().getMantle()
+                    .getChunk(x >> 4, z >> 4)
+                    .getOrCreate(0)
+                    .slice(MatterBiomeInject.class);
+
             for (int xf = 0; xf < h.getWidth(); xf++) {
                 IrisBiome ib;
                 for (int zf = 0; zf < h.getDepth(); zf++) {
@@ -54,14 +63,12 @@ public class IrisBiomeActuator extends EngineAssignedActuator<Biome> {
                     MatterBiomeInject matter;
 
                     if (ib.isCustom()) {
-                        IrisBiomeCustom custom = ib.getCustomBiome(rng, x, 0, z);
-                        matter = BiomeInjectMatter.get(INMS.get().getBiomeBaseIdForKey(getDimension().getLoadKey() + ":" + custom.getId()));
+                        matter = getCustomBiome(ib.getCustomBiome(rng, x, 0, z));
                     } else {
-                        Biome v = ib.getSkyBiome(rng, x, 0, z);
-                        matter = BiomeInjectMatter.get(v);
+                        matter = getSkyBiome(ib.getSkyBiome(rng, x, 0, z));
                     }
 
-                    getEngine().getMantle().getMantle().set(x + xf, 0, z + zf, matter);
+                    slice.set((x + xf) & 15, 0, (z + zf) & 15, matter);
                 }
             }
             getEngine().getMetrics().getBiome().put(p.getMilliseconds());
@@ -69,4 +76,34 @@ public class IrisBiomeActuator extends EngineAssignedActuator<Biome> {
             e.printStackTrace();
         }
     }
+
+    /**
+     * Custom biome ids only change when the datapacks do, which recreates this actuator through a hotload.
+     * Biomes that are not registered yet are looked up again every time, so they are picked up once a datapack adds them.
+     */
+    private MatterBiomeInject getCustomBiome(IrisBiomeCustom custom) {
+        MatterBiomeInject matter = customBiomes.get(custom.getId());
+
+        if (matter == null) {
+            int id = INMS.get().getBiomeBaseIdForKey(getDimension().getLoadKey() + ":" + custom.getId());
+            matter = BiomeInjectMatter.get(id);
+
+            if (id >= 0) {
+                customBiomes.put(custom.getId(), matter);
+            }
+        }
+
+        return matter;
+    }
+
+    private MatterBiomeInject getSkyBiome(Biome biome) {
+        MatterBiomeInject matter = skyBiomes[biome.ordinal()];
+
+        if (matter == null) {
+            matter = BiomeInjectMatter.get(biome);
+            skyBiomes[biome.ordinal()] = matter;
+        }
+
+        return matter;
+    }
 }
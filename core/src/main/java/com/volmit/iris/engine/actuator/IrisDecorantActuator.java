@@ -26,6 +26,7 @@ import com.volmit.iris.engine.object.IrisBiome;
 import com.volmit.iris.util.context.ChunkContext;
 import com.volmit.iris.util.documentation.BlockCoordinates;
 import com.volmit.iris.util.hunk.Hunk;
+import com.volmit.iris.util.mantle.MantleChunkView;
 import com.volmit.iris.util.math.RNG;
 import com.volmit.iris.util.scheduling.PrecisionStopwatch;
 import lombok.Getter;
@@ -68,6 +69,7 @@ public class IrisDecorantActuator extends EngineAssignedActuator<BlockData> {
         }
 
         PrecisionStopwatch p = PrecisionStopwatch.start();
+        MantleChunkView view = new MantleChunkView(getEngine().getMantle().getMantle(), x >> 4, z >> 4);
 
         for (int i = 0; i < output.getWidth(); i++) {
             int height;
@@ -91,9 +93,9 @@ public class IrisDecorantActuator extends EngineAssignedActuator<BlockData> {
                     getSeaSurfaceDecorator().decorate(i, j,
                             realX, Math.round(i + 1), Math.round(x + i - 1),
                             realZ, Math.round(z + j + 1), Math.round(z + j - 1),
-                            output, biome, getDimension().getFluidHeight(), getEngine().getHeight());
+                            output, view, biome, getDimension().getFluidHeight(), getEngine().getHeight());
                     getSeaFloorDecorator().decorate(i, j,
-                            realX, realZ, output, biome, height + 1,
+                            realX, realZ, output, view, biome, height + 1,
                             getDimension().getFluidHeight() + 1);
                 }
 
@@ -101,10 +103,10 @@ public class IrisDecorantActuator extends EngineAssignedActuator<BlockData> {
                     getShoreLineDecorator().decorate(i, j,
                             realX, Math.round(x + i + 1), Math.round(x + i - 1),
                             realZ, Math.round(z + j + 1), Math.round(z + j - 1),
-                            output, biome, height, getEngine().getHeight());
+                            output, view, biome, height, getEngine().getHeight());
                 }
 
-                getSurfaceDecorator().decorate(i, j, realX, realZ, output, biome, height, getEngine().getHeight() - height);
+                getSurfaceDecorator().decorate(i, j, realX, realZ, output, view, biome, height, getEngine().getHeight() - height);
 
 
                 if (cave != null && cave.getDecorators().isNotEmpty()) {
@@ -113,8 +115,8 @@ public class IrisDecorantActuator extends EngineAssignedActuator<BlockData> {
 
                         if (solid) {
                             if (emptyFor > 0) {
-                                getSurfaceDecorator().decorate(i, j, realX, realZ, output, cave, k, lastSolid);
-                                getCeilingDecorator().decorate(i, j, realX, realZ, output, cave, lastSolid - 1, emptyFor);
+                                getSurfaceDecorator().decorate(i, j, realX, realZ, output, view, cave, k, lastSolid);
+                                getCeilingDecorator().decorate(i, j, realX, realZ, output, view, cave, lastSolid - 1, emptyFor);
                                 emptyFor = 0;
                             }
                             lastSolid = k;
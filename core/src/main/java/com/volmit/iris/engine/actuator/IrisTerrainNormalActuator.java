@@ -74,9 +74,10 @@ public class IrisTerrainNormalActuator extends EngineAssignedActuator<BlockData>
      */
     @BlockCoordinates
     public void terrainSliver(int x, int z, int xf, Hunk<BlockData> h, ChunkContext context) {
-        int zf, realX, realZ, hf, he;
+        int zf, realX, realZ, hf, he, top;
         IrisBiome biome;
         IrisRegion region;
+        BlockData[] column = new BlockData[h.getHeight()];
 
         for (zf = 0; zf < h.getDepth(); zf++) {
             realX = xf + x;
@@ -90,17 +91,14 @@ public class IrisTerrainNormalActuator extends EngineAssignedActuator<BlockData>
                 continue;
             }
 
+            top = Math.min(hf, h.getHeight() - 1);
             KList<BlockData> blocks = null;
             KList<BlockData> fblocks = null;
             int depth, fdepth;
-            for (int i = hf; i >= 0; i--) {
-                if (i >= h.getHeight()) {
-                    continue;
-                }
-
+            for (int i = top; i >= 0; i--) {
                 if (i == 0) {
                     if (getDimension().isBedrock()) {
-                        h.set(xf, i, zf, BEDROCK);
+                        column[i] = BEDROCK;
                         lastBedrock = i;
                         continue;
                     }
@@ -114,11 +112,11 @@ public class IrisTerrainNormalActuator extends EngineAssignedActuator<BlockData>
                     }
 
                     if (fblocks.hasIndex(fdepth)) {
-                        h.set(xf, i, zf, fblocks.get(fdepth));
+                        column[i] = fblocks.get(fdepth);
                         continue;
                     }
 
-                    h.set(xf, i, zf, context.getFluid().get(xf, zf));
+                    column[i] = context.getFluid().get(xf, zf);
                     continue;
                 }
 
@@ -134,21 +132,18 @@ public class IrisTerrainNormalActuator extends EngineAssignedActuator<BlockData>
 
 
                     if (blocks.hasIndex(depth)) {
-                        h.set(xf, i, zf, blocks.get(depth));
+                        column[i] = blocks.get(depth);
                         continue;
                     }
 
                     BlockData ore = biome.generateOres(realX, i, realZ, rng, getData());
                     ore = ore == null ? region.generateOres(realX, i, realZ, rng, getData()) : ore;
                     ore = ore == null ? getDimension().generateOres(realX, i, realZ, rng, getData()) : ore;
-
-                    if (ore != null) {
-                        h.set(xf, i, zf, ore);
-                    } else {
-                        h.set(xf, i, zf, context.getRock().get(xf, zf));
-                    }
+                    column[i] = ore != null ? ore : context.getRock().get(xf, zf);
                 }
             }
+
+            h.setColumn(xf, zf, 0, column, top + 1);
         }
     }
 }
@@ -20,6 +20,7 @@ package com.volmit.iris.engine.data.chunk;
 
 import com.volmit.iris.Iris;
 import com.volmit.iris.core.nms.BiomeBaseInjector;
+import com.volmit.iris.util.data.B;
 import com.volmit.iris.util.data.IrisBlockData;
 import com.volmit.iris.util.nbt.mca.Chunk;
 import com.volmit.iris.util.nbt.mca.NBTWorld;
@@ -105,7 +106,8 @@ public class MCATerrainChunk implements TerrainChunk {
             y = getMinHeight();
         }
 
-        return NBTWorld.getBlockData(mcaChunk.getBlockStateAt((x + ox) & 15, y, (z + oz) & 15));
+        BlockData data = mcaChunk.getBlockDataAt((x + ox) & 15, y, (z + oz) & 15);
+        return data == null ? B.getAir() : data;
     }
 
     @Override
@@ -26,11 +26,18 @@ import com.volmit.iris.engine.framework.EngineDecorator;
 import com.volmit.iris.engine.object.IrisBiome;
 import com.volmit.iris.engine.object.IrisDecorationPart;
 import com.volmit.iris.engine.object.IrisDecorator;
-import com.volmit.iris.util.collection.KList;
+import com.volmit.iris.util.data.B;
+import com.volmit.iris.util.documentation.BlockCoordinates;
+import com.volmit.iris.util.hunk.Hunk;
+import com.volmit.iris.util.mantle.MantleChunkView;
 import com.volmit.iris.util.math.RNG;
 import lombok.Getter;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.block.data.MultipleFacing;
 
 public abstract class IrisEngineDecorator extends EngineAssignedComponent implements EngineDecorator {
+    private static final BlockFace[] FACES = {BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST, BlockFace.UP, BlockFace.DOWN};
 
     @Getter
     private final RNG rng;
@@ -44,14 +51,20 @@ public abstract class IrisEngineDecorator extends EngineAssignedComponent implem
         this.rng = new RNG(getSeed() + 29356788 - (part.ordinal() * 10439677L));
     }
 
+    /**
+     * Pick one of the decorators of this part that place something at the given position.
+     * Candidates are chosen by reservoir sampling with a stateless positional hash, so nothing is allocated per column.
+     */
     protected IrisDecorator getDecorator(IrisBiome biome, double realX, double realZ) {
-        KList<IrisDecorator> v = new KList<>();
-        RNG rng = new RNG(Cache.key((int) realX, (int) realZ));
+        IrisDecorator picked = null;
+        long seed = Cache.key((int) realX, (int) realZ);
+        int candidates = 0;
 
-        for (IrisDecorator i : biome.getDecorators()) {
+        for (IrisDecorator i : biome.getDecorators(part)) {
             try {
-                if (i.getPartOf().equals(part) && i.getBlockData(biome, this.rng, realX, realZ, getData()) != null) {
-                    v.add(i);
+                if (i.canPlace(biome, this.rng, realX, realZ, getData())
+                        && Math.floorMod(mix(seed ^ (candidates * 0x9E3779B97F4A7C15L)), ++candidates) == 0) {
+                    picked = i;
                 }
             } catch (Throwable e) {
                 Iris.reportError(e);
@@ -59,10 +72,67 @@ public abstract class IrisEngineDecorator extends EngineAssignedComponent implem
             }
         }
 
-        if (v.isNotEmpty()) {
-            return v.get(rng.nextInt(v.size()));
+        return picked;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Attach a vine-like block to its solid neighbours. Neighbours inside the chunk are read from the hunk
+     * being generated and then through a view of this chunk's mantle data, only neighbours across the chunk border
+     * go through the mantle lookup.
+     *
+     * @param hunk  the chunk being decorated
+     * @param view  the mantle view of the chunk being decorated
+     * @param b     the block to place
+     * @param x     the x inside the hunk
+     * @param y     the y inside the hunk
+     * @param z     the z inside the hunk
+     * @param realX the world x
+     * @param realZ the world z
+     * @return the block with its faces set, or b itself if it has no faces
+     */
+    @BlockCoordinates
+    protected BlockData fixFaces(Hunk<BlockData> hunk, MantleChunkView view, BlockData b, int x, int y, int z, int realX, int realZ) {
+        if (!B.isVineBlock(b)) {
+            return b;
+        }
+
+        MultipleFacing data = (MultipleFacing) b.clone();
+        boolean found = false;
+
+        for (BlockFace f : FACES) {
+            if (isSolid(hunk, view, x + f.getModX(), y + f.getModY(), z + f.getModZ(), (realX & 15) + f.getModX(), (realZ & 15) + f.getModZ())) {
+                found = true;
+                data.setFace(f, true);
+            }
+        }
+
+        if (!found) {
+            data.setFace(BlockFace.UP, true);
+        }
+
+        return data;
+    }
+
+    private boolean isSolid(Hunk<BlockData> hunk, MantleChunkView view, int x, int y, int z, int cx, int cz) {
+        if (y < 0 || y >= hunk.getHeight()) {
+            return false;
+        }
+
+        if (x >= 0 && z >= 0 && x < hunk.getWidth() && z < hunk.getDepth()) {
+            BlockData d = hunk.get(x, y, z);
+
+            if (d != null && d.getMaterial().isSolid()) {
+                return true;
+            }
         }
 
-        return null;
+        BlockData d = view.get(cx, y, cz, BlockData.class);
+        return d != null && d.getMaterial().isSolid();
     }
 }
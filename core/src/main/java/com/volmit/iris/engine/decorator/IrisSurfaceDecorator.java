@@ -28,11 +28,11 @@ import com.volmit.iris.engine.object.IrisDecorator;
 import com.volmit.iris.util.data.B;
 import com.volmit.iris.util.documentation.BlockCoordinates;
 import com.volmit.iris.util.hunk.Hunk;
+import com.volmit.iris.util.mantle.MantleChunkView;
 import org.bukkit.Material;
 import org.bukkit.block.BlockFace;
 import org.bukkit.block.data.Bisected;
 import org.bukkit.block.data.BlockData;
-import org.bukkit.block.data.MultipleFacing;
 import org.bukkit.block.data.type.PointedDripstone;
 
 public class IrisSurfaceDecorator extends IrisEngineDecorator {
@@ -42,7 +42,7 @@ public class IrisSurfaceDecorator extends IrisEngineDecorator {
 
     @BlockCoordinates
     @Override
-    public void decorate(int x, int z, int realX, int realX1, int realX_1, int realZ, int realZ1, int realZ_1, Hunk<BlockData> data, IrisBiome biome, int height, int max) {
+    public void decorate(int x, int z, int realX, int realX1, int realX_1, int realZ, int realZ1, int realZ_1, Hunk<BlockData> data, MantleChunkView view, IrisBiome biome, int height, int max) {
         if (biome.getInferredType().equals(InferredType.SHORE) && height < getDimension().getFluidHeight()) {
             return;
         }
@@ -68,14 +68,9 @@ public class IrisSurfaceDecorator extends IrisEngineDecorator {
                 }
 
                 if (decorator.getForceBlock() != null) {
-                    data.set(x, height, z, fixFaces(decorator.getForceBlock().getBlockData(getData()), x, height, z));
-                } else if (!decorator.isForcePlace()) {
-                    if (decorator.getWhitelist() != null && decorator.getWhitelist().stream().noneMatch(d -> d.getBlockData(getData()).equals(bdx))) {
-                        return;
-                    }
-                    if (decorator.getBlacklist() != null && decorator.getWhitelist().stream().anyMatch(d -> d.getBlockData(getData()).equals(bdx))) {
-                        return;
-                    }
+                    data.set(x, height, z, fixFaces(data, view, decorator.getForceBlock().getBlockData(getData()), x, height, z, realX, realZ));
+                } else if (!decorator.isForcePlace() && !decorator.canPlaceOn(bdx, getData())) {
+                    return;
                 }
 
                 if (bd instanceof Bisected) {
@@ -91,7 +86,7 @@ public class IrisSurfaceDecorator extends IrisEngineDecorator {
                 }
 
                 if (B.isAir(data.get(x, height + 1, z))) {
-                    data.set(x, height + 1, z, fixFaces(bd, x, height + 1, z));
+                    data.set(x, height + 1, z, fixFaces(data, view, bd, x, height + 1, z, realX, realZ));
                 }
             } else {
                 if (height < getDimension().getFluidHeight()) {
@@ -158,24 +153,4 @@ public class IrisSurfaceDecorator extends IrisEngineDecorator {
             }
         }
     }
-
-    private BlockData fixFaces(BlockData b, int x, int y, int z) {
-        if (B.isVineBlock(b)) {
-            MultipleFacing data = (MultipleFacing) b.clone();
-            boolean found = false;
-            for (BlockFace f : BlockFace.values()) {
-                if (!f.isCartesian())
-                    continue;
-                Material m = getEngine().getMantle().get(x + f.getModX(), y + f.getModY(), z + f.getModZ()).getMaterial();
-                if (m.isSolid()) {
-                    found = true;
-                    data.setFace(f, m.isSolid());
-                }
-            }
-            if (!found)
-                data.setFace(BlockFace.UP, true);
-            return data;
-        }
-        return b;
-    }
 }
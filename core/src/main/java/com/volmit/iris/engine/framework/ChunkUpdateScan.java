@@ -0,0 +1,180 @@
+/*
+ * Iris is a World Generator for Minecraft Bukkit Servers
+ * Copyright (c) 2022 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.volmit.iris.engine.framework;
+
+import com.volmit.iris.engine.data.cache.Cache;
+import com.volmit.iris.util.data.B;
+import com.volmit.iris.util.math.RNG;
+import com.volmit.iris.util.matter.MatterCavern;
+import com.volmit.iris.util.matter.MatterUpdate;
+import com.volmit.iris.util.scheduling.MainThreadWorkQueue;
+import com.volmit.iris.util.scheduling.PrecisionStopwatch;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+
+import java.util.Arrays;
+
+/**
+ * The block updates a freshly generated chunk needs, gathered off the main thread from the mantle and a
+ * {@link ChunkSnapshot}. Only {@link #apply(Engine, Chunk)} touches the world, it runs as a step of the
+ * {@link MainThreadWorkQueue} and yields whenever the tick budget is used up.
+ * <p>
+ * Positions are packed as {@code y << 8 | z << 4 | x} with y relative to the bottom of the world.
+ */
+public class ChunkUpdateScan {
+    private static final int CHECK_INTERVAL = 16;
+    private final int chunkX;
+    private final int chunkZ;
+    private final int[] columns;
+    private final int[] edges;
+    private final int[] updates;
+    private int phase;
+    private int cursor;
+
+    private ChunkUpdateScan(int chunkX, int chunkZ, int[] columns, int[] edges, int[] updates) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.columns = columns;
+        this.edges = edges;
+        this.updates = updates;
+    }
+
+    /**
+     * Scan a chunk for fluids next to air and for marked updates. Safe to call from any thread, the
+     * marked updates stay in the mantle until {@link #apply(Engine, Chunk)} is done with them.
+     *
+     * @param engine   the engine
+     * @param snapshot a snapshot of the chunk taken after generation
+     * @return the scan
+     */
+    public static ChunkUpdateScan scan(Engine engine, ChunkSnapshot snapshot) {
+        PrecisionStopwatch p = PrecisionStopwatch.start();
+        int cx = snapshot.getX();
+        int cz = snapshot.getZ();
+        int minHeight = engine.getWorld().minHeight();
+        int[] columns = new int[256];
+        IntArrayList edges = new IntArrayList();
+        IntArrayList updates = new IntArrayList();
+        Arrays.fill(columns, -1);
+
+        engine.getMantle().getMantle().iterateChunk(cx, cz, MatterCavern.class, (x, y, z, v) -> {
+            int wy = y + minHeight;
+
+            if (!B.isFluid(snapshot.getBlockData(x, wy, z))) {
+                return;
+            }
+
+            if ((y > 0 && B.isAir(snapshot.getBlockData(x, wy - 1, z)))
+                    || (x > 0 && B.isAir(snapshot.getBlockData(x - 1, wy, z)))
+                    || (x < 15 && B.isAir(snapshot.getBlockData(x + 1, wy, z)))
+                    || (z < 15 && B.isAir(snapshot.getBlockData(x, wy, z + 1)))
+                    || (z > 0 && B.isAir(snapshot.getBlockData(x, wy, z - 1)))) {
+                columns[(z << 4) | x] = Math.max(columns[(z << 4) | x], y);
+            } else if (y == 0 || x == 0 || x == 15 || z == 0 || z == 15) {
+                edges.add(pack(x, y, z));
+            }
+        });
+
+        engine.getMantle().getMantle().iterateChunk(cx, cz, MatterUpdate.class, (x, y, z, v) -> {
+            if (v != null && v.isUpdate()) {
+                updates.add(pack(x, y, z));
+            }
+        });
+
+        engine.getMetrics().getUpdateScan().put(p.getMilliseconds());
+        return new ChunkUpdateScan(cx, cz, columns, edges.toIntArray(), updates.toIntArray());
+    }
+
+    /**
+     * Apply the scanned updates to the chunk. Must be called on the main thread.
+     *
+     * @param engine the engine
+     * @param c      the chunk that was scanned
+     * @return true once everything was applied, false if the tick budget ran out first
+     */
+    public boolean apply(Engine engine, Chunk c) {
+        PrecisionStopwatch p = PrecisionStopwatch.start();
+        int minHeight = engine.getWorld().minHeight();
+        RNG r = new RNG(Cache.key(chunkX, chunkZ));
+        int done = 0;
+
+        while (phase < 3) {
+            int[] work = phase == 0 ? edges : phase == 1 ? columns : updates;
+
+            if (cursor >= work.length) {
+                phase++;
+                cursor = 0;
+                continue;
+            }
+
+            if (++done % CHECK_INTERVAL == 0 && MainThreadWorkQueue.isOverBudget()) {
+                engine.getMetrics().getUpdates().put(p.getMilliseconds());
+                return false;
+            }
+
+            int i = cursor++;
+
+            switch (phase) {
+                case 0 -> resolveEdge(c, edges[i], minHeight);
+                case 1 -> {
+                    if (columns[i] >= 0) {
+                        engine.update(i & 15, columns[i] + minHeight, i >> 4, c, r);
+                    }
+                }
+                default -> {
+                    int x = updates[i] & 15;
+                    int z = (updates[i] >> 4) & 15;
+                    int y = (updates[i] >>> 8) + minHeight;
+                    engine.update(x, y, z, c, new RNG(Cache.key(chunkX, chunkZ)));
+
+                    if (x > 0 && x < 15 && z > 0 && z < 15) {
+                        engine.updateLighting(x, y, z, c);
+                    }
+                }
+            }
+        }
+
+        engine.getMantle().getMantle().deleteChunkSlice(chunkX, chunkZ, MatterUpdate.class);
+        engine.getMetrics().getUpdates().put(p.getMilliseconds());
+        engine.getMetrics().getUpdatedChunks().incrementAndGet();
+        return true;
+    }
+
+    private void resolveEdge(Chunk c, int packed, int minHeight) {
+        int x = packed & 15;
+        int z = (packed >> 4) & 15;
+        int y = packed >>> 8;
+        Block block = c.getBlock(x, y + minHeight, z);
+
+        if ((y == 0 && B.isAir(block.getRelative(BlockFace.DOWN).getBlockData()))
+                || (x == 0 && B.isAir(block.getRelative(BlockFace.WEST).getBlockData()))
+                || (x == 15 && B.isAir(block.getRelative(BlockFace.EAST).getBlockData()))
+                || (z == 15 && B.isAir(block.getRelative(BlockFace.SOUTH).getBlockData()))
+                || (z == 0 && B.isAir(block.getRelative(BlockFace.NORTH).getBlockData()))) {
+            columns[(z << 4) | x] = Math.max(columns[(z << 4) | x], y);
+        }
+    }
+
+    private static int pack(int x, int y, int z) {
+        return (y << 8) | (z << 4) | x;
+    }
+}
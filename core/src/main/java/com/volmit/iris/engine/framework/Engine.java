@@ -28,8 +28,8 @@ import com.volmit.iris.core.loader.IrisRegistrant;
 import com.volmit.iris.core.nms.container.BlockPos;
 import com.volmit.iris.core.nms.container.Pair;
 import com.volmit.iris.core.service.ExternalDataSVC;
+import com.volmit.iris.core.service.IrisEngineSVC;
 import com.volmit.iris.engine.IrisComplex;
-import com.volmit.iris.engine.data.cache.Cache;
 import com.volmit.iris.engine.data.chunk.TerrainChunk;
 import com.volmit.iris.engine.mantle.EngineMantle;
 import com.volmit.iris.engine.object.*;
@@ -46,29 +46,31 @@ import com.volmit.iris.util.documentation.ChunkCoordinates;
 import com.volmit.iris.util.format.C;
 import com.volmit.iris.util.function.Function2;
 import com.volmit.iris.util.hunk.Hunk;
+import com.volmit.iris.util.mantle.Mantle;
 import com.volmit.iris.util.mantle.MantleFlag;
 import com.volmit.iris.util.math.BlockPosition;
 import com.volmit.iris.util.math.M;
 import com.volmit.iris.util.math.Position2;
 import com.volmit.iris.util.math.RNG;
 import com.volmit.iris.util.matter.MatterCavern;
-import com.volmit.iris.util.matter.MatterUpdate;
+import com.volmit.iris.util.matter.MatterPlacedObject;
 import com.volmit.iris.util.matter.TileWrapper;
 import com.volmit.iris.util.matter.slices.container.JigsawPieceContainer;
 import com.volmit.iris.util.parallel.BurstExecutor;
 import com.volmit.iris.util.parallel.MultiBurst;
 import com.volmit.iris.util.scheduling.ChronoLatch;
 import com.volmit.iris.util.scheduling.J;
-import com.volmit.iris.util.scheduling.PrecisionStopwatch;
+import com.volmit.iris.util.scheduling.MainThreadWorkQueue;
 import com.volmit.iris.util.stream.ProceduralStream;
 import io.papermc.lib.PaperLib;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.Biome;
 import org.bukkit.block.Block;
-import org.bukkit.block.BlockFace;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -146,7 +148,18 @@ public interface Engine extends DataProvider, Fallible, LootProvider, BlockUpdat
     }
 
     @BlockCoordinates
-    void generate(int x, int z, Hunk<BlockData> blocks, Hunk<Biome> biomes, boolean multicore) throws WrongEngineBroException;
+    default void generate(int x, int z, Hunk<BlockData> blocks, Hunk<Biome> biomes, boolean multicore) throws WrongEngineBroException {
+        generate(x, z, blocks, biomes, multicore, true);
+    }
+
+    /**
+     * Generate a chunk. Chunks that don't end up in this engine's world (like headless output) must not
+     * be marked as real, otherwise the mantle treats them as generated and cleans up around them too early.
+     *
+     * @param real whether the chunk is part of this engine's world
+     */
+    @BlockCoordinates
+    void generate(int x, int z, Hunk<BlockData> blocks, Hunk<Biome> biomes, boolean multicore, boolean real) throws WrongEngineBroException;
 
     EngineMetrics getMetrics();
 
@@ -282,67 +295,62 @@ public interface Engine extends DataProvider, Fallible, LootProvider, BlockUpdat
             return;
         }
 
-        getMantle().getMantle().raiseFlag(c.getX(), c.getZ(), MantleFlag.TILE, () -> J.s(() -> {
-            getMantle().getMantle().iterateChunk(c.getX(), c.getZ(), TileWrapper.class, (x, y, z, tile) -> {
-                int betterY = y + getWorld().minHeight();
-                if (!TileData.setTileState(c.getBlock(x, betterY, z), tile.getData()))
-                    Iris.warn("Failed to set tile entity data at [%d %d %d | %s] for tile %s!", x, betterY, z, c.getBlock(x, betterY, z).getBlockData().getMaterial().getKey(), tile.getData().getTileId());
-            });
-        }));
-        getMantle().getMantle().raiseFlag(c.getX(), c.getZ(), MantleFlag.CUSTOM, () -> J.s(() -> {
-            getMantle().getMantle().iterateChunk(c.getX(), c.getZ(), Identifier.class, (x, y, z, v) -> {
-                Iris.service(ExternalDataSVC.class).processUpdate(this, c.getBlock(x & 15, y + getWorld().minHeight(), z & 15), v);
-            });
-        }));
-
-        getMantle().getMantle().raiseFlag(c.getX(), c.getZ(), MantleFlag.UPDATE, () -> J.s(() -> {
-            PrecisionStopwatch p = PrecisionStopwatch.start();
-            KMap<Long, Integer> updates = new KMap<>();
-            RNG r = new RNG(Cache.key(c.getX(), c.getZ()));
-            getMantle().getMantle().iterateChunk(c.getX(), c.getZ(), MatterCavern.class, (x, yf, z, v) -> {
-                int y = yf + getWorld().minHeight();
-                if (!B.isFluid(c.getBlock(x & 15, y, z & 15).getBlockData())) {
-                    return;
-                }
-                boolean u = false;
-                if (B.isAir(c.getBlock(x & 15, y, z & 15).getRelative(BlockFace.DOWN).getBlockData())) {
-                    u = true;
-                } else if (B.isAir(c.getBlock(x & 15, y, z & 15).getRelative(BlockFace.WEST).getBlockData())) {
-                    u = true;
-                } else if (B.isAir(c.getBlock(x & 15, y, z & 15).getRelative(BlockFace.EAST).getBlockData())) {
-                    u = true;
-                } else if (B.isAir(c.getBlock(x & 15, y, z & 15).getRelative(BlockFace.SOUTH).getBlockData())) {
-                    u = true;
-                } else if (B.isAir(c.getBlock(x & 15, y, z & 15).getRelative(BlockFace.NORTH).getBlockData())) {
-                    u = true;
-                }
+        World world = c.getWorld();
+        int cx = c.getX();
+        int cz = c.getZ();
+        Mantle mantle = getMantle().getMantle();
 
-                if (u) {
-                    updates.compute(Cache.key(x & 15, z & 15), (k, vv) -> {
-                        if (vv != null) {
-                            return Math.max(vv, y);
-                        }
+        if (!mantle.hasFlag(cx, cz, MantleFlag.TILE)) {
+            MainThreadWorkQueue.submit(world, cx, cz, MantleFlag.TILE, () -> mantle.raiseFlag(cx, cz, MantleFlag.TILE, () -> {
+                Chunk chunk = world.getChunkAt(cx, cz);
+                mantle.iterateChunk(cx, cz, TileWrapper.class, (x, y, z, tile) -> {
+                    int betterY = y + getWorld().minHeight();
+                    if (!TileData.setTileState(chunk.getBlock(x, betterY, z), tile.getData()))
+                        Iris.warn("Failed to set tile entity data at [%d %d %d | %s] for tile %s!", x, betterY, z, chunk.getBlock(x, betterY, z).getBlockData().getMaterial().getKey(), tile.getData().getTileId());
+                });
+            }));
+        }
+
+        if (!mantle.hasFlag(cx, cz, MantleFlag.CUSTOM)) {
+            MainThreadWorkQueue.submit(world, cx, cz, MantleFlag.CUSTOM, () -> mantle.raiseFlag(cx, cz, MantleFlag.CUSTOM, () -> {
+                Chunk chunk = world.getChunkAt(cx, cz);
+                mantle.iterateChunk(cx, cz, Identifier.class, (x, y, z, v) -> {
+                    Iris.service(ExternalDataSVC.class).processUpdate(this, chunk.getBlock(x & 15, y + getWorld().minHeight(), z & 15), v);
+                });
+            }));
+        }
 
-                        return y;
-                    });
+        if (!mantle.hasFlag(cx, cz, MantleFlag.UPDATE) && MainThreadWorkQueue.claim(world, cx, cz, MantleFlag.UPDATE)) {
+            Runnable release = () -> MainThreadWorkQueue.release(world, cx, cz, MantleFlag.UPDATE);
+            MainThreadWorkQueue.submit(world, cx, cz, () -> {
+                ChunkSnapshot snapshot;
+
+                try {
+                    snapshot = world.getChunkAt(cx, cz).getChunkSnapshot(false, false, false);
+                } catch (Throwable e) {
+                    release.run();
+                    throw e;
                 }
-            });
 
-            updates.forEach((k, v) -> update(Cache.keyX(k), v, Cache.keyZ(k), c, r));
-            getMantle().getMantle().iterateChunk(c.getX(), c.getZ(), MatterUpdate.class, (x, yf, z, v) -> {
-                int y = yf + getWorld().minHeight();
-                if (v != null && v.isUpdate()) {
-                    int vx = x & 15;
-                    int vz = z & 15;
-                    update(x, y, z, c, new RNG(Cache.key(c.getX(), c.getZ())));
-                    if (vx > 0 && vx < 15 && vz > 0 && vz < 15) {
-                        updateLighting(x, y, z, c);
+                J.a(() -> {
+                    try {
+                        ChunkUpdateScan scan = ChunkUpdateScan.scan(this, snapshot);
+                        MainThreadWorkQueue.submitSteps(world, cx, cz, () -> {
+                            if (!scan.apply(this, world.getChunkAt(cx, cz))) {
+                                return false;
+                            }
+
+                            mantle.flag(cx, cz, MantleFlag.UPDATE, true);
+                            release.run();
+                            return true;
+                        });
+                    } catch (Throwable e) {
+                        release.run();
+                        throw e;
                     }
-                }
+                });
             });
-            getMantle().getMantle().deleteChunkSlice(c.getX(), c.getZ(), MatterUpdate.class);
-            getMetrics().getUpdates().put(p.getMilliseconds());
-        }, RNG.r.i(0, 20)));
+        }
     }
 
     @BlockCoordinates
@@ -541,7 +549,7 @@ public interface Engine extends DataProvider, Fallible, LootProvider, BlockUpdat
 
     @Deprecated
     default void clean() {
-        burst().lazy(() -> getMantle().trim(10));
+        burst().lazy(() -> getMantle().trim(IrisEngineSVC.getMantleMemoryBudget()));
     }
 
     @BlockCoordinates
@@ -768,25 +776,40 @@ public interface Engine extends DataProvider, Fallible, LootProvider, BlockUpdat
     }
 
     default String getObjectPlacementKey(int x, int y, int z) {
-        PlacedObject o = getObjectPlacement(x, y, z);
+        MatterPlacedObject o = getPlacedObject(x, y, z);
+        return o == null ? null : o.toString();
+    }
 
-        if (o != null && o.getObject() != null) {
-            return o.getObject().getLoadKey() + "@" + o.getId();
+    /**
+     * Get the raw placed object marker at the given position without loading the object or resolving its placement.
+     * Mantles written before placement markers existed still carry "key@id" strings, those are parsed instead.
+     *
+     * @return the placed object marker or null if there is no object at this position
+     */
+    @BlockCoordinates
+    default MatterPlacedObject getPlacedObject(int x, int y, int z) {
+        MatterPlacedObject placed = getMantle().getMantle().get(x, y, z, MatterPlacedObject.class);
+
+        if (placed != null) {
+            return placed;
+        }
+
+        String legacy = getMantle().getMantle().get(x, y, z, String.class);
+        if (legacy == null || legacy.isEmpty()) {
+            return null;
         }
 
-        return null;
+        return MatterPlacedObject.parse(legacy);
     }
 
     default PlacedObject getObjectPlacement(int x, int y, int z) {
-        String objectAt = getMantle().getMantle().get(x, y, z, String.class);
-        if (objectAt == null || objectAt.isEmpty()) {
+        MatterPlacedObject placed = getPlacedObject(x, y, z);
+        if (placed == null) {
             return null;
         }
 
-        String[] v = objectAt.split("\\Q@\\E");
-        String object = v[0];
-        int id = Integer.parseInt(v[1]);
-
+        String object = placed.getObject();
+        int id = placed.getId();
 
         JigsawPieceContainer container = getMantle().getMantle().get(x, y, z, JigsawPieceContainer.class);
         if (container != null) {
@@ -22,16 +22,17 @@ import com.volmit.iris.engine.object.IrisBiome;
 import com.volmit.iris.util.data.B;
 import com.volmit.iris.util.documentation.BlockCoordinates;
 import com.volmit.iris.util.hunk.Hunk;
+import com.volmit.iris.util.mantle.MantleChunkView;
 import org.bukkit.block.data.BlockData;
 
 public interface EngineDecorator extends EngineComponent {
 
     @BlockCoordinates
-    void decorate(int x, int z, int realX, int realX1, int realX_1, int realZ, int realZ1, int realZ_1, Hunk<BlockData> data, IrisBiome biome, int height, int max);
+    void decorate(int x, int z, int realX, int realX1, int realX_1, int realZ, int realZ1, int realZ_1, Hunk<BlockData> data, MantleChunkView view, IrisBiome biome, int height, int max);
 
     @BlockCoordinates
-    default void decorate(int x, int z, int realX, int realZ, Hunk<BlockData> data, IrisBiome biome, int height, int max) {
-        decorate(x, z, realX, realX, realX, realZ, realZ, realZ, data, biome, height, max);
+    default void decorate(int x, int z, int realX, int realZ, Hunk<BlockData> data, MantleChunkView view, IrisBiome biome, int height, int max) {
+        decorate(x, z, realX, realX, realX, realZ, realZ, realZ, data, view, biome, height, max);
     }
 
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")
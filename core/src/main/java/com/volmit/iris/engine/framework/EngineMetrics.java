@@ -22,10 +22,14 @@ import com.volmit.iris.util.atomics.AtomicRollingSequence;
 import com.volmit.iris.util.collection.KMap;
 import lombok.Data;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Data
 public class EngineMetrics {
     private final AtomicRollingSequence total;
     private final AtomicRollingSequence updates;
+    private final AtomicRollingSequence updateScan;
+    private final AtomicInteger updatedChunks;
     private final AtomicRollingSequence terrain;
     private final AtomicRollingSequence biome;
     private final AtomicRollingSequence parallax;
@@ -49,6 +53,8 @@ public class EngineMetrics {
         this.post = new AtomicRollingSequence(mem);
         this.decoration = new AtomicRollingSequence(mem);
         this.updates = new AtomicRollingSequence(mem);
+        this.updateScan = new AtomicRollingSequence(mem);
+        this.updatedChunks = new AtomicInteger();
         this.cave = new AtomicRollingSequence(mem);
         this.ravine = new AtomicRollingSequence(mem);
         this.deposit = new AtomicRollingSequence(mem);
@@ -66,6 +72,8 @@ public class EngineMetrics {
         v.put("decoration", decoration.getAverage());
         v.put("api", api.getAverage());
         v.put("updates", updates.getAverage());
+        v.put("updates.scan", updateScan.getAverage());
+        v.put("updates.chunks", (double) updatedChunks.get());
         v.put("cave", cave.getAverage());
         v.put("ravine", ravine.getAverage());
         v.put("deposit", deposit.getAverage());
@@ -32,4 +32,16 @@ public interface MeteredCache {
     }
 
     boolean isClosed();
+
+    default long getHits() {
+        return 0;
+    }
+
+    default long getMisses() {
+        return 0;
+    }
+
+    default long getEvictions() {
+        return 0;
+    }
 }
@@ -43,7 +43,7 @@ public class PregeneratedData {
     }
 
     public Runnable inject(TerrainChunk tc) {
-        blocks.iterateSync((x, y, z, b) -> {
+        blocks.forEachXYZ((x, y, z, b) -> {
             if (b != null) {
                 tc.setBlock(x, y, z, b);
             }
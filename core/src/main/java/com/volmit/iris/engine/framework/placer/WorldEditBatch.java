@@ -0,0 +1,146 @@
+/*
+ * Iris is a World Generator for Minecraft Bukkit Servers
+ * Copyright (c) 2022 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.volmit.iris.engine.framework.placer;
+
+import com.volmit.iris.Iris;
+import com.volmit.iris.core.nms.INMS;
+import com.volmit.iris.util.data.IrisBlockData;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collects block edits for a world and applies them chunk by chunk, sorted by section, through
+ * {@link com.volmit.iris.core.nms.INMSBinding#setBlocks}. Edits skip physics, lighting and packets are
+ * handled once per chunk by the binding. Bindings without support fall back to Bukkit without physics.
+ * <p>
+ * Not thread safe, apply on the main thread.
+ */
+public class WorldEditBatch {
+    private final World world;
+    private final int minHeight;
+    private final Long2ObjectOpenHashMap<Int2ObjectOpenHashMap<BlockData>> chunks;
+    private final List<Runnable> after;
+
+    public WorldEditBatch(World world) {
+        this.world = world;
+        this.minHeight = world.getMinHeight();
+        this.chunks = new Long2ObjectOpenHashMap<>();
+        this.after = new ArrayList<>();
+    }
+
+    /**
+     * Queue a block, the last edit of a position wins
+     *
+     * @param x the world x
+     * @param y the world y
+     * @param z the world z
+     * @param d the block
+     */
+    public void set(int x, int y, int z, BlockData d) {
+        if (y < minHeight || y >= world.getMaxHeight() || d == null) {
+            return;
+        }
+
+        if (d instanceof IrisBlockData b) {
+            d = b.getBase();
+        }
+
+        chunks.computeIfAbsent(key(x >> 4, z >> 4), (k) -> new Int2ObjectOpenHashMap<>())
+                .put(((y - minHeight) << 8) | ((z & 15) << 4) | (x & 15), d);
+    }
+
+    /**
+     * @return the queued block at this position or null if there is none
+     */
+    public BlockData get(int x, int y, int z) {
+        Int2ObjectOpenHashMap<BlockData> c = chunks.get(key(x >> 4, z >> 4));
+        return c == null || y < minHeight ? null : c.get(((y - minHeight) << 8) | ((z & 15) << 4) | (x & 15));
+    }
+
+    /**
+     * Run something after all blocks are applied, for example tile states that need their block in place
+     */
+    public void after(Runnable r) {
+        after.add(r);
+    }
+
+    public int size() {
+        int s = 0;
+
+        for (Int2ObjectOpenHashMap<BlockData> i : chunks.values()) {
+            s += i.size();
+        }
+
+        return s;
+    }
+
+    /**
+     * Apply and clear everything queued so far
+     *
+     * @return the amount of blocks written
+     */
+    public int apply() {
+        int count = 0;
+
+        for (Long2ObjectOpenHashMap.Entry<Int2ObjectOpenHashMap<BlockData>> e : chunks.long2ObjectEntrySet()) {
+            Chunk chunk = world.getChunkAt((int) (e.getLongKey() >> 32), (int) e.getLongKey());
+            int[] positions = e.getValue().keySet().toIntArray();
+            Arrays.sort(positions);
+            BlockData[] blocks = new BlockData[positions.length];
+
+            for (int i = 0; i < positions.length; i++) {
+                blocks[i] = e.getValue().get(positions[i]);
+            }
+
+            if (!INMS.get().setBlocks(chunk, positions, blocks, positions.length)) {
+                for (int i = 0; i < positions.length; i++) {
+                    int p = positions[i];
+                    chunk.getBlock(p & 15, (p >>> 8) + minHeight, (p >> 4) & 15).setBlockData(blocks[i], false);
+                }
+            }
+
+            count += positions.length;
+        }
+
+        chunks.clear();
+
+        for (Runnable i : after) {
+            try {
+                i.run();
+            } catch (Throwable ex) {
+                Iris.reportError(ex);
+                ex.printStackTrace();
+            }
+        }
+
+        after.clear();
+        return count;
+    }
+
+    private static long key(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+}
@@ -26,11 +26,12 @@ import org.bukkit.block.data.BlockData;
 import org.bukkit.inventory.InventoryHolder;
 
 @Getter
-@EqualsAndHashCode(exclude = {"engine", "mantle"})
+@EqualsAndHashCode(exclude = {"engine", "mantle", "batch"})
 public class WorldObjectPlacer implements IObjectPlacer {
     private final World world;
     private final Engine engine;
     private final EngineMantle mantle;
+    private final WorldEditBatch batch;
 
     public WorldObjectPlacer(World world) {
         var a = IrisToolbelt.access(world);
@@ -38,6 +39,16 @@ public class WorldObjectPlacer implements IObjectPlacer {
         this.world = world;
         this.engine = a.getEngine();
         this.mantle = engine.getMantle();
+        this.batch = new WorldEditBatch(world);
+    }
+
+    /**
+     * Write all blocks and tiles placed so far into the world. Must be called on the main thread.
+     *
+     * @return the amount of blocks written
+     */
+    public int flush() {
+        return batch.apply();
     }
 
     @Override
@@ -80,12 +91,13 @@ public class WorldObjectPlacer implements IObjectPlacer {
             }
         }
 
-        block.setBlockData(d);
+        batch.set(x, y + world.getMinHeight(), z, d);
     }
 
     @Override
     public BlockData get(int x, int y, int z) {
-        return world.getBlockAt(x, y + world.getMinHeight(), z).getBlockData();
+        BlockData d = batch.get(x, y + world.getMinHeight(), z);
+        return d != null ? d : world.getBlockAt(x, y + world.getMinHeight(), z).getBlockData();
     }
 
     @Override
@@ -100,7 +112,7 @@ public class WorldObjectPlacer implements IObjectPlacer {
 
     @Override
     public boolean isSolid(int x, int y, int z) {
-        return world.getBlockAt(x, y + world.getMinHeight(), z).getType().isSolid();
+        return get(x, y, z).getMaterial().isSolid();
     }
 
     @Override
@@ -120,8 +132,10 @@ public class WorldObjectPlacer implements IObjectPlacer {
 
     @Override
     public void setTile(int xx, int yy, int zz, TileData<? extends TileState> tile) {
-        BlockState state = world.getBlockAt(xx, yy + world.getMinHeight(), zz).getState();
-        tile.toBukkitTry(state);
-        state.update();
+        batch.after(() -> {
+            BlockState state = world.getBlockAt(xx, yy + world.getMinHeight(), zz).getState();
+            tile.toBukkitTry(state);
+            state.update();
+        });
     }
 }
@@ -18,7 +18,6 @@
 
 package com.volmit.iris.engine.jigsaw;
 
-import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
 import com.volmit.iris.Iris;
 import com.volmit.iris.core.loader.IrisData;
 import com.volmit.iris.engine.framework.Engine;
@@ -29,6 +28,7 @@ import com.volmit.iris.util.data.IrisBlockData;
 import com.volmit.iris.util.mantle.Mantle;
 import com.volmit.iris.util.math.Position2;
 import com.volmit.iris.util.math.RNG;
+import com.volmit.iris.util.matter.MatterPlacedObject;
 import com.volmit.iris.util.matter.slices.container.JigsawPieceContainer;
 import com.volmit.iris.util.matter.slices.container.JigsawStructuresContainer;
 import com.volmit.iris.util.scheduling.J;
@@ -39,12 +39,6 @@ import java.util.function.Consumer;
 
 @Data
 public class PlannedStructure {
-    private static ConcurrentLinkedHashMap<String, IrisObject> objectRotationCache
-            = new ConcurrentLinkedHashMap.Builder<String, IrisObject>()
-            .initialCapacity(64)
-            .maximumWeightedCapacity(1024)
-            .concurrencyLevel(32)
-            .build();
     private KList<PlannedPiece> pieces;
     private IrisJigsawStructure structure;
     private IrisPosition position;
@@ -144,11 +138,11 @@ public class PlannedStructure {
             height = -1;
         }
 
-        int id = rng.i(0, Integer.MAX_VALUE);
+        MatterPlacedObject placed = new MatterPlacedObject(v.getLoadKey(), rng.i(0, Integer.MAX_VALUE));
         JigsawPieceContainer container = JigsawPieceContainer.toContainer(i.getPiece());
         i.setRealPositions(xx, height, zz, placer);
         return v.place(xx, height, zz, placer, options, rng, (b, data) -> {
-            e.set(b.getX(), b.getY(), b.getZ(), v.getLoadKey() + "@" + id);
+            e.set(b.getX(), b.getY(), b.getZ(), placed);
             e.set(b.getX(), b.getY(), b.getZ(), container);
             if (data instanceof IrisBlockData d) {
                 e.set(b.getX(), b.getY(), b.getZ(), d.getCustom());
@@ -157,7 +151,11 @@ public class PlannedStructure {
     }
 
     public void place(WorldObjectPlacer placer, Consumer<Boolean> consumer) {
-        J.s(() -> consumer.accept(place(placer, placer.getMantle().getMantle(), placer.getEngine())));
+        J.s(() -> {
+            boolean placed = place(placer, placer.getMantle().getMantle(), placer.getEngine());
+            placer.flush();
+            consumer.accept(placed);
+        });
     }
 
     private void generateOutwards() {
@@ -350,8 +348,6 @@ public class PlannedStructure {
     }
 
     public IrisObject rotated(IrisJigsawPiece piece, IrisObjectRotation rotation) {
-        String key = piece.getObject() + "-" + rotation.hashCode();
-
-        return objectRotationCache.computeIfAbsent(key, (k) -> rotation.rotateCopy(data.getObjectLoader().load(piece.getObject())));
+        return RotatedObjectCache.getCopy(data.getObjectLoader().load(piece.getObject()), rotation);
     }
 }
@@ -144,8 +144,8 @@ public interface EngineMantle extends IObjectPlacer {
         return getEngine().getDimension().isDebugSmartBore();
     }
 
-    default void trim(long dur, int limit) {
-        getMantle().trim(dur, limit);
+    default void trim(long dur, long memoryBudget) {
+        getMantle().trim(dur, memoryBudget);
     }
 
     default IrisData getData() {
@@ -176,8 +176,8 @@ public interface EngineMantle extends IObjectPlacer {
 
     }
 
-    default void trim(int limit) {
-        getMantle().trim(TimeUnit.SECONDS.toMillis(IrisSettings.get().getPerformance().getMantleKeepAlive()), limit);
+    default void trim(long memoryBudget) {
+        getMantle().trim(TimeUnit.SECONDS.toMillis(IrisSettings.get().getPerformance().getMantleKeepAlive()), memoryBudget);
     }
     default int unloadTectonicPlate(int tectonicLimit){
         return getMantle().unloadTectonicPlate(tectonicLimit);
@@ -192,35 +192,38 @@ public interface EngineMantle extends IObjectPlacer {
     }
 
 
+    /**
+     * Plans every chunk within the mantle radius of the given chunk. There is no engine wide lock,
+     * chunks with non overlapping radii plan fully in parallel. Overlapping chunks coordinate through
+     * the {@link MantleFlag#PLANNED} claim on each {@link MantleChunk}, a thread that finds a chunk
+     * being planned by another thread waits for it to finish before continuing.
+     */
     @ChunkCoordinates
     default void generateMatter(int x, int z, boolean multicore, ChunkContext context) {
-        synchronized (this) {
-            if (!getEngine().getDimension().isUseMantle()) {
-                return;
-            }
+        if (!getEngine().getDimension().isUseMantle()) {
+            return;
+        }
 
-            int s = getRealRadius();
-            BurstExecutor burst = burst().burst(multicore);
-            MantleWriter writer = getMantle().write(this, x, z, s * 2);
-            for (int i = -s; i <= s; i++) {
-                for (int j = -s; j <= s; j++) {
-                    int xx = i + x;
-                    int zz = j + z;
-                    burst.queue(() -> {
-                        IrisContext.touch(getEngine().getContext());
-                        getMantle().raiseFlag(xx, zz, MantleFlag.PLANNED, () -> {
-                            MantleChunk mc = getMantle().getChunk(xx, zz);
-
-                            for (MantleComponent k : getComponents()) {
-                                generateMantleComponent(writer, xx, zz, k, mc, context);
-                            }
-                        });
+        int s = getRealRadius();
+        BurstExecutor burst = burst().burst(multicore);
+        MantleWriter writer = getMantle().write(this, x, z, s * 2);
+        for (int i = -s; i <= s; i++) {
+            for (int j = -s; j <= s; j++) {
+                int xx = i + x;
+                int zz = j + z;
+                burst.queue(() -> {
+                    IrisContext.touch(getEngine().getContext());
+                    MantleChunk mc = getMantle().getChunk(xx, zz);
+                    mc.raiseFlagSuspend(MantleFlag.PLANNED, () -> {
+                        for (MantleComponent k : getComponents()) {
+                            generateMantleComponent(writer, xx, zz, k, mc, context);
+                        }
                     });
-                }
+                });
             }
-
-            burst.complete();
         }
+
+        burst.complete();
     }
 
     default void generateMantleComponent(MantleWriter writer, int x, int z, MantleComponent c, MantleChunk mc, ChunkContext context) {
@@ -261,6 +264,10 @@ public interface EngineMantle extends IObjectPlacer {
     default int getLoadedRegionCount() {
         return getMantle().getLoadedRegionCount();
     }
+    default long getMemoryUsage() {
+        return getMantle().getMemoryUsage().get();
+    }
+
     default long getLastUseMapMemoryUsage(){
         return getMantle().LastUseMapMemoryUsage();
     }
@@ -290,6 +297,7 @@ public interface EngineMantle extends IObjectPlacer {
             getMantle().raiseFlag(x, z, MantleFlag.CLEANED, () -> {
                 getMantle().deleteChunkSlice(x, z, BlockData.class);
                 getMantle().deleteChunkSlice(x, z, String.class);
+                getMantle().deleteChunkSlice(x, z, MatterPlacedObject.class);
                 getMantle().deleteChunkSlice(x, z, MatterCavern.class);
                 getMantle().deleteChunkSlice(x, z, MatterFluidBody.class);
             });
@@ -32,6 +32,7 @@ import com.volmit.iris.util.documentation.BlockCoordinates;
 import com.volmit.iris.util.documentation.ChunkCoordinates;
 import com.volmit.iris.util.mantle.MantleFlag;
 import com.volmit.iris.util.math.RNG;
+import com.volmit.iris.util.matter.MatterPlacedObject;
 import com.volmit.iris.util.matter.MatterStructurePOI;
 import com.volmit.iris.util.noise.CNG;
 import com.volmit.iris.util.noise.NoiseType;
@@ -98,9 +99,9 @@ public class MantleObjectComponent extends IrisMantleComponent {
             }
             int xx = rng.i(x, x + 15);
             int zz = rng.i(z, z + 15);
-            int id = rng.i(0, Integer.MAX_VALUE);
+            MatterPlacedObject placed = new MatterPlacedObject(v.getLoadKey(), rng.i(0, Integer.MAX_VALUE));
             v.place(xx, -1, zz, writer, objectPlacement, rng, (b, data) -> {
-                writer.setData(b.getX(), b.getY(), b.getZ(), v.getLoadKey() + "@" + id);
+                writer.setData(b.getX(), b.getY(), b.getZ(), placed);
                 if (objectPlacement.isDolphinTarget() && objectPlacement.isUnderwater() && B.isStorageChest(data)) {
                     writer.setData(b.getX(), b.getY(), b.getZ(), MatterStructurePOI.BURIED_TREASURE);
                 }
@@ -27,10 +27,11 @@ import com.volmit.iris.util.collection.KList;
 import com.volmit.iris.util.collection.KMap;
 import com.volmit.iris.util.context.ChunkContext;
 import com.volmit.iris.util.data.B;
-import com.volmit.iris.util.function.Consumer4;
+import com.volmit.iris.util.function.IntXYZObjConsumer;
 import com.volmit.iris.util.hunk.Hunk;
 import com.volmit.iris.util.mantle.Mantle;
 import com.volmit.iris.util.mantle.MantleChunk;
+import com.volmit.iris.util.mantle.MantleChunkView;
 import com.volmit.iris.util.math.M;
 import com.volmit.iris.util.math.RNG;
 import com.volmit.iris.util.matter.MatterCavern;
@@ -57,10 +58,11 @@ public class IrisCarveModifier extends EngineAssignedModifier<BlockData> {
     public void onModify(int x, int z, Hunk<BlockData> output, boolean multicore, ChunkContext context) {
         PrecisionStopwatch p = PrecisionStopwatch.start();
         Mantle mantle = getEngine().getMantle().getMantle();
-        MantleChunk mc = getEngine().getMantle().getMantle().getChunk(x, z);
+        MantleChunkView view = new MantleChunkView(mantle, x, z);
+        MantleChunk mc = view.getChunk();
         KMap<Long, KList<Integer>> positions = new KMap<>();
         KMap<IrisPosition, MatterCavern> walls = new KMap<>();
-        Consumer4<Integer, Integer, Integer, MatterCavern> iterator = (xx, yy, zz, c) -> {
+        IntXYZObjConsumer<MatterCavern> iterator = (xx, yy, zz, c) -> {
             if (c == null) {
                 return;
             }
@@ -82,19 +84,19 @@ public class IrisCarveModifier extends EngineAssignedModifier<BlockData> {
 
             //todo: Fix chunk decoration not working on chunk's border
 
-            if (rz < 15 && mantle.get(xx, yy, zz + 1, MatterCavern.class) == null) {
+            if (rz < 15 && view.get(rx, yy, rz + 1, MatterCavern.class) == null) {
                 walls.put(new IrisPosition(rx, yy, rz + 1), c);
             }
 
-            if (rx < 15 && mantle.get(xx + 1, yy, zz, MatterCavern.class) == null) {
+            if (rx < 15 && view.get(rx + 1, yy, rz, MatterCavern.class) == null) {
                 walls.put(new IrisPosition(rx + 1, yy, rz), c);
             }
 
-            if (rz > 0 && mantle.get(xx, yy, zz - 1, MatterCavern.class) == null) {
+            if (rz > 0 && view.get(rx, yy, rz - 1, MatterCavern.class) == null) {
                 walls.put(new IrisPosition(rx, yy, rz - 1), c);
             }
 
-            if (rx > 0 && mantle.get(xx - 1, yy, zz, MatterCavern.class) == null) {
+            if (rx > 0 && view.get(rx - 1, yy, rz, MatterCavern.class) == null) {
                 walls.put(new IrisPosition(rx - 1, yy, rz), c);
             }
 
@@ -153,7 +155,7 @@ public class IrisCarveModifier extends EngineAssignedModifier<BlockData> {
                     buf = i;
                     zone.ceiling = buf;
                 } else if (zone.isValid(getEngine())) {
-                    processZone(output, mc, mantle, zone, rx, rz, rx + (x << 4), rz + (z << 4));
+                    processZone(output, view, mantle, zone, rx, rz, rx + (x << 4), rz + (z << 4));
                     zone = new CaveZone();
                     zone.setFloor(i);
                     buf = i;
@@ -161,14 +163,14 @@ public class IrisCarveModifier extends EngineAssignedModifier<BlockData> {
             }
 
             if (zone.isValid(getEngine())) {
-                processZone(output, mc, mantle, zone, rx, rz, rx + (x << 4), rz + (z << 4));
+                processZone(output, view, mantle, zone, rx, rz, rx + (x << 4), rz + (z << 4));
             }
         });
 
         getEngine().getMetrics().getDeposit().put(p.getMilliseconds());
     }
 
-    private void processZone(Hunk<BlockData> output, MantleChunk mc, Mantle mantle, CaveZone zone, int rx, int rz, int xx, int zz) {
+    private void processZone(Hunk<BlockData> output, MantleChunkView view, Mantle mantle, CaveZone zone, int rx, int rz, int xx, int zz) {
         boolean decFloor = B.isSolid(output.getClosest(rx, zone.floor - 1, rz));
         boolean decCeiling = B.isSolid(output.getClosest(rx, zone.ceiling + 1, rz));
         int center = (zone.floor + zone.ceiling) / 2;
@@ -184,16 +186,15 @@ public class IrisCarveModifier extends EngineAssignedModifier<BlockData> {
         }
 
         if (M.r(1D / 16D)) {
-            mantle.set(xx, zone.ceiling, zz, MarkerMatter.CAVE_CEILING);
+            view.set(rx, zone.ceiling, rz, MarkerMatter.CAVE_CEILING);
         }
 
         if (M.r(1D / 16D)) {
-            mantle.set(xx, zone.floor, zz, MarkerMatter.CAVE_FLOOR);
+            view.set(rx, zone.floor, rz, MarkerMatter.CAVE_FLOOR);
         }
 
         for (int i = zone.floor; i <= zone.ceiling; i++) {
-            MatterCavern cavernData = (MatterCavern) mc.getOrCreate(i >> 4).slice(MatterCavern.class)
-                    .get(rx, i & 15, rz);
+            MatterCavern cavernData = view.get(rx, i, rz, MatterCavern.class);
 
             if (cavernData != null && !cavernData.getCustomBiome().isEmpty()) {
                 customBiome = cavernData.getCustomBiome();
@@ -213,9 +214,9 @@ public class IrisCarveModifier extends EngineAssignedModifier<BlockData> {
 
         for (IrisDecorator i : biome.getDecorators()) {
             if (i.getPartOf().equals(IrisDecorationPart.NONE) && B.isSolid(output.get(rx, zone.getFloor() - 1, rz))) {
-                decorant.getSurfaceDecorator().decorate(rx, rz, xx, xx, xx, zz, zz, zz, output, biome, zone.getFloor() - 1, zone.airThickness());
+                decorant.getSurfaceDecorator().decorate(rx, rz, xx, xx, xx, zz, zz, zz, output, view, biome, zone.getFloor() - 1, zone.airThickness());
             } else if (i.getPartOf().equals(IrisDecorationPart.CEILING) && B.isSolid(output.get(rx, zone.getCeiling() + 1, rz))) {
-                decorant.getCeilingDecorator().decorate(rx, rz, xx, xx, xx, zz, zz, zz, output, biome, zone.getCeiling(), zone.airThickness());
+                decorant.getCeilingDecorator().decorate(rx, rz, xx, xx, xx, zz, zz, zz, output, view, biome, zone.getCeiling(), zone.airThickness());
             }
         }
 
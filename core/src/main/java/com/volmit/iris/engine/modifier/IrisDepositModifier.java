@@ -18,28 +18,37 @@
 
 package com.volmit.iris.engine.modifier;
 
+import com.volmit.iris.engine.data.cache.Cache;
 import com.volmit.iris.engine.framework.Engine;
 import com.volmit.iris.engine.framework.EngineAssignedModifier;
 import com.volmit.iris.engine.object.IrisBiome;
 import com.volmit.iris.engine.object.IrisDepositGenerator;
-import com.volmit.iris.engine.object.IrisObject;
 import com.volmit.iris.engine.object.IrisRegion;
+import com.volmit.iris.util.collection.KList;
 import com.volmit.iris.util.context.ChunkContext;
 import com.volmit.iris.util.data.B;
 import com.volmit.iris.util.data.HeightMap;
 import com.volmit.iris.util.hunk.Hunk;
+import com.volmit.iris.util.hunk.view.BufferedHunkView;
+import com.volmit.iris.util.mantle.MantleChunk;
 import com.volmit.iris.util.math.RNG;
+import com.volmit.iris.util.matter.Matter;
+import com.volmit.iris.util.matter.MatterCavern;
+import com.volmit.iris.util.matter.MatterSlice;
 import com.volmit.iris.util.parallel.BurstExecutor;
 import com.volmit.iris.util.scheduling.PrecisionStopwatch;
 import org.bukkit.block.data.BlockData;
-import org.bukkit.util.BlockVector;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 public class IrisDepositModifier extends EngineAssignedModifier<BlockData> {
+    private final long seed;
     private final RNG rng;
 
     public IrisDepositModifier(Engine engine) {
         super(engine, "Deposit");
-        rng = new RNG(getEngine().getSeedManager().getDeposit());
+        seed = getEngine().getSeedManager().getDeposit();
+        rng = new RNG(seed);
     }
 
     @Override
@@ -49,40 +58,72 @@ public class IrisDepositModifier extends EngineAssignedModifier<BlockData> {
         getEngine().getMetrics().getDeposit().put(p.getMilliseconds());
     }
 
+    /**
+     * Every queued clump set gets its own rng hashed from the chunk position and its queue position, and writes into
+     * its own buffer. Buffers are merged in queue order once all of them are done, so the result does not depend
+     * on how the burst was scheduled. Clump variants are generated up front from the engine's deposit rng
+     * rather than from whichever chunk happens to need them first.
+     */
     public void generateDeposits(RNG rx, Hunk<BlockData> terrain, int x, int z, boolean multicore, ChunkContext context) {
         RNG ro = rx.nextParallelRNG(x * x).nextParallelRNG(z * z);
         IrisRegion region = context.getRegion().get(7, 7);
         IrisBiome biome = context.getBiome().get(7, 7);
         BurstExecutor burst = burst().burst(multicore);
+        CarveMask carved = new CarveMask(getEngine().getMantle().getMantle().getChunk(x, z));
+        KList<BufferedHunkView<BlockData>> buffers = new KList<>();
 
         for (IrisDepositGenerator k : getDimension().getDeposits()) {
-            burst.queue(() -> generate(k, terrain, ro, x, z, false, context));
+            queue(burst, buffers, k, terrain, ro, x, z, carved, context);
         }
 
         for (IrisDepositGenerator k : region.getDeposits()) {
             for (int l = 0; l < ro.i(k.getMinPerChunk(), k.getMaxPerChunk()); l++) {
-                burst.queue(() -> generate(k, terrain, ro, x, z, false, context));
+                queue(burst, buffers, k, terrain, ro, x, z, carved, context);
             }
         }
 
         for (IrisDepositGenerator k : biome.getDeposits()) {
             for (int l = 0; l < ro.i(k.getMinPerChunk(), k.getMaxPerChunk()); l++) {
-                burst.queue(() -> generate(k, terrain, ro, x, z, false, context));
+                queue(burst, buffers, k, terrain, ro, x, z, carved, context);
             }
         }
         burst.complete();
+
+        for (BufferedHunkView<BlockData> i : buffers) {
+            i.flush();
+        }
+    }
+
+    private void queue(BurstExecutor burst, KList<BufferedHunkView<BlockData>> buffers, IrisDepositGenerator k, Hunk<BlockData> terrain, RNG ro, int x, int z, CarveMask carved, ChunkContext context) {
+        k.getCompiledClumps(rng, getData());
+        RNG r = new RNG(mix(mix(seed ^ Cache.key(x, z)) + buffers.size() * 0x9E3779B97F4A7C15L));
+        BufferedHunkView<BlockData> buffer = new BufferedHunkView<>(terrain);
+        buffers.add(buffer);
+        burst.queue(() -> generate(k, buffer, r, x, z, false, carved, context));
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
     }
 
     public void generate(IrisDepositGenerator k, Hunk<BlockData> data, RNG rng, int cx, int cz, boolean safe, ChunkContext context) {
-        generate(k, data, rng, cx, cz, safe, null, context);
+        generate(k, data, rng, cx, cz, safe, new CarveMask(getEngine().getMantle().getMantle().getChunk(cx, cz)), context);
+    }
+
+    public void generate(IrisDepositGenerator k, Hunk<BlockData> data, RNG rng, int cx, int cz, boolean safe, CarveMask carved, ChunkContext context) {
+        generate(k, data, rng, cx, cz, safe, null, carved, context);
     }
 
-    public void generate(IrisDepositGenerator k, Hunk<BlockData> data, RNG rng, int cx, int cz, boolean safe, HeightMap he, ChunkContext context) {
+    public void generate(IrisDepositGenerator k, Hunk<BlockData> data, RNG rng, int cx, int cz, boolean safe, HeightMap he, CarveMask carved, ChunkContext context) {
+        int maxY = getEngine().getHeight();
+
         for (int l = 0; l < rng.i(k.getMinPerChunk(), k.getMaxPerChunk()); l++) {
-            IrisObject clump = k.getClump(rng, getData());
+            IrisDepositGenerator.Clump clump = k.getCompiledClump(rng, getData());
 
-            int af = (int) Math.floor(clump.getW() / 2D);
-            int bf = (int) Math.floor(16D - (clump.getW() / 2D));
+            int af = (int) Math.floor(clump.getWidth() / 2D);
+            int bf = (int) Math.floor(16D - (clump.getWidth() / 2D));
 
             if (af > bf || af < 0 || bf > 15) {
                 af = 6;
@@ -114,19 +155,83 @@ public class IrisDepositModifier extends EngineAssignedModifier<BlockData> {
                 return;
             }
 
-            for (BlockVector j : clump.getBlocks().keySet()) {
-                int nx = j.getBlockX() + x;
-                int ny = j.getBlockY() + h;
-                int nz = j.getBlockZ() + z;
+            int[] offsets = clump.getOffsets();
+
+            for (int j = 0; j < clump.size(); j++) {
+                int nx = offsets[j * 3] + x;
+                int ny = offsets[j * 3 + 1] + h;
+                int nz = offsets[j * 3 + 2] + z;
 
-                if (ny > height || nx > 15 || nx < 0 || ny > getEngine().getHeight() || ny < 0 || nz < 0 || nz > 15) {
+                if (ny > height || nx > 15 || nx < 0 || ny > maxY || ny < 0 || nz < 0 || nz > 15) {
                     continue;
                 }
 
-                if (!getEngine().getMantle().isCarved((cx << 4) + nx, ny, (cz << 4) + nz)) {
-                    data.set(nx, ny, nz, B.toDeepSlateOre(data.get(nx, ny, nz), clump.getBlocks().get(j)));
+                if (!carved.isCarved(nx, ny, nz)) {
+                    BlockData b = data.get(nx, ny, nz);
+                    data.set(nx, ny, nz, b != null && B.isDeepSlate(b) ? clump.getDeepslateOres()[j] : clump.getOres()[j]);
                 }
             }
         }
     }
+
+    /**
+     * Lazily built per-section bitmask of the cavern matter in one mantle chunk.
+     * Each section is scanned at most once (racing builders produce the same mask), after that carve checks are a bit test.
+     */
+    public static class CarveMask {
+        private static final long[] EMPTY = new long[0];
+        private final MantleChunk chunk;
+        private final AtomicReferenceArray<long[]> sections;
+
+        public CarveMask(MantleChunk chunk) {
+            this.chunk = chunk;
+            this.sections = new AtomicReferenceArray<>(chunk.getSectionHeight());
+        }
+
+        public boolean isCarved(int x, int y, int z) {
+            int s = y >> 4;
+
+            if (s < 0 || s >= sections.length()) {
+                return false;
+            }
+
+            long[] mask = sections.get(s);
+
+            if (mask == null) {
+                mask = build(s);
+                sections.set(s, mask);
+            }
+
+            if (mask.length == 0) {
+                return false;
+            }
+
+            int i = ((y & 15) << 8) | (z << 4) | x;
+            return (mask[i >> 6] & (1L << (i & 63))) != 0;
+        }
+
+        private long[] build(int s) {
+            Matter matter = chunk.get(s);
+            MatterSlice<MatterCavern> slice = matter == null ? null : matter.getSlice(MatterCavern.class);
+
+            if (slice == null) {
+                return EMPTY;
+            }
+
+            long[] mask = new long[64];
+
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        if (slice.get(x, y, z) != null) {
+                            int i = (y << 8) | (z << 4) | x;
+                            mask[i >> 6] |= 1L << (i & 63);
+                        }
+                    }
+                }
+            }
+
+            return mask;
+        }
+    }
 }
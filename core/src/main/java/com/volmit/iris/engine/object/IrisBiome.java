@@ -67,6 +67,7 @@ public class IrisBiome extends IrisRegistrant implements IRare {
     private final transient AtomicCache<Color> cacheColorLayerLoad = new AtomicCache<>();
     private final transient AtomicCache<Color> cacheColorDepositLoad = new AtomicCache<>();
     private final transient AtomicCache<CNG> childrenCell = new AtomicCache<>();
+    private final transient AtomicCache<IrisDecorator[][]> decoratorParts = new AtomicCache<>();
     private final transient AtomicCache<CNG> biomeGenerator = new AtomicCache<>();
     private final transient AtomicCache<Integer> maxHeight = new AtomicCache<>();
     private final transient AtomicCache<Integer> maxWithObjectHeight = new AtomicCache<>();
@@ -251,6 +252,41 @@ public class IrisBiome extends IrisRegistrant implements IRare {
         });
     }
 
+    /**
+     * Get the decorators of this biome that decorate the given part
+     *
+     * @param part the decoration part
+     * @return the decorators, never null
+     */
+    public IrisDecorator[] getDecorators(IrisDecorationPart part) {
+        return getDecoratorParts().aquire(() ->
+        {
+            IrisDecorationPart[] parts = IrisDecorationPart.values();
+            KList<KList<IrisDecorator>> byPart = new KList<>();
+
+            for (IrisDecorationPart ignored : parts) {
+                byPart.add(new KList<IrisDecorator>());
+            }
+
+            for (IrisDecorator i : getDecorators()) {
+                if (i.getPartOf() == null) {
+                    Iris.error("PART OF: " + getLoadFile().getAbsolutePath() + " HAS AN INVALID DECORATOR near 'partOf'!!!");
+                    continue;
+                }
+
+                byPart.get(i.getPartOf().ordinal()).add(i);
+            }
+
+            IrisDecorator[][] d = new IrisDecorator[parts.length][];
+
+            for (int i = 0; i < parts.length; i++) {
+                d[i] = byPart.get(i).toArray(new IrisDecorator[0]);
+            }
+
+            return d;
+        })[part.ordinal()];
+    }
+
     public KList<IrisObjectPlacement> getSurfaceObjects() {
         return getSurfaceObjectsCache().aquire(() ->
         {
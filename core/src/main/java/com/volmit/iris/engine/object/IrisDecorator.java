@@ -31,6 +31,9 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
 import org.bukkit.block.data.BlockData;
 
+import java.util.HashSet;
+import java.util.Set;
+
 @Snippet("decorator")
 @Accessors(chain = true)
 @NoArgsConstructor
@@ -43,6 +46,8 @@ public class IrisDecorator {
     private final transient AtomicCache<CNG> heightGenerator = new AtomicCache<>();
     private final transient AtomicCache<KList<BlockData>> blockData = new AtomicCache<>();
     private final transient AtomicCache<KList<BlockData>> blockDataTops = new AtomicCache<>();
+    private final transient AtomicCache<Set<BlockData>> whitelistData = new AtomicCache<>();
+    private final transient AtomicCache<Set<BlockData>> blacklistData = new AtomicCache<>();
     @Desc("The varience dispersion is used when multiple blocks are put in the palette. Scatter scrambles them, Wispy shows streak-looking varience")
     private IrisGeneratorStyle variance = NoiseStyle.STATIC.style();
     @Desc("Forcefully place this decorant anywhere it is supposed to go even if it should not go on a specific surface block. For example, you could force tallgrass to place on top of stone by using this.")
@@ -134,16 +139,21 @@ public class IrisDecorator {
         return palette;
     }
 
-    public BlockData getBlockData(IrisBiome b, RNG rng, double x, double z, IrisData data) {
+    /**
+     * Check if this decorator places anything at the given position without picking the block.
+     * This only samples the chance noise.
+     */
+    public boolean canPlace(IrisBiome b, RNG rng, double x, double z, IrisData data) {
         if (getBlockData(data).isEmpty()) {
             Iris.warn("Empty Block Data for " + b.getName());
-            return null;
+            return false;
         }
 
-        double xx = x / style.getZoom();
-        double zz = z / style.getZoom();
+        return getGenerator(rng, data).fitDouble(0D, 1D, x / style.getZoom(), z / style.getZoom()) <= chance;
+    }
 
-        if (getGenerator(rng, data).fitDouble(0D, 1D, xx, zz) <= chance) {
+    public BlockData getBlockData(IrisBiome b, RNG rng, double x, double z, IrisData data) {
+        if (canPlace(b, rng, x, z, data)) {
             if (getBlockData(data).size() == 1) {
                 return getBlockData(data).get(0);
             }
@@ -230,6 +240,45 @@ public class IrisDecorator {
         });
     }
 
+    /**
+     * Check the block this decorator would sit on against the whitelist and blacklist.
+     * Both lists are resolved into sets once, so this is a hash lookup per call.
+     *
+     * @param surface the block below the decorant
+     * @param data    the data manager
+     * @return true if neither list rules the surface out
+     */
+    public boolean canPlaceOn(BlockData surface, IrisData data) {
+        if (whitelist != null && !getWhitelistData(data).contains(surface)) {
+            return false;
+        }
+
+        return blacklist == null || !getBlacklistData(data).contains(surface);
+    }
+
+    public Set<BlockData> getWhitelistData(IrisData data) {
+        return whitelistData.aquire(() -> resolve(whitelist, data));
+    }
+
+    public Set<BlockData> getBlacklistData(IrisData data) {
+        return blacklistData.aquire(() -> resolve(blacklist, data));
+    }
+
+    private static Set<BlockData> resolve(KList<IrisBlockData> blocks, IrisData data) {
+        Set<BlockData> set = new HashSet<>();
+
+        if (blocks != null) {
+            for (IrisBlockData i : blocks) {
+                BlockData bx = i.getBlockData(data);
+                if (bx != null) {
+                    set.add(bx);
+                }
+            }
+        }
+
+        return set;
+    }
+
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")
     public boolean isStacking() {
         return getStackMax() > 1;
@@ -22,11 +22,14 @@ import com.volmit.iris.core.loader.IrisData;
 import com.volmit.iris.engine.data.cache.AtomicCache;
 import com.volmit.iris.engine.object.annotations.*;
 import com.volmit.iris.util.collection.KList;
+import com.volmit.iris.util.data.B;
 import com.volmit.iris.util.math.RNG;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
+import org.bukkit.Material;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.util.BlockVector;
 
@@ -39,6 +42,7 @@ import org.bukkit.util.BlockVector;
 public class IrisDepositGenerator {
     private final transient AtomicCache<KList<IrisObject>> objects = new AtomicCache<>();
     private final transient AtomicCache<KList<BlockData>> blockData = new AtomicCache<>();
+    private final transient AtomicCache<KList<Clump>> clumps = new AtomicCache<>();
     @Required
     @MinNumber(0)
     @MaxNumber(8192) // TODO: WARNING HEIGHT
@@ -79,7 +83,35 @@ public class IrisDepositGenerator {
     private int varience = 3;
 
     public IrisObject getClump(RNG rng, IrisData rdata) {
-        KList<IrisObject> objects = this.objects.aquire(() ->
+        KList<IrisObject> objects = getClumpObjects(rng, rdata);
+        return objects.get(rng.i(0, objects.size() - 1));
+    }
+
+    /**
+     * Pick a clump the same way {@link #getClump(RNG, IrisData)} does, but in its compiled form
+     *
+     * @param rng   the rng
+     * @param rdata the data manager
+     * @return the compiled clump
+     */
+    public Clump getCompiledClump(RNG rng, IrisData rdata) {
+        KList<Clump> clumps = getCompiledClumps(rng, rdata);
+        return clumps.get(rng.i(0, clumps.size() - 1));
+    }
+
+    /**
+     * Get every compiled clump variant. The variants are generated from the first rng this generator sees.
+     *
+     * @param rng   the rng
+     * @param rdata the data manager
+     * @return the compiled clumps
+     */
+    public KList<Clump> getCompiledClumps(RNG rng, IrisData rdata) {
+        return clumps.aquire(() -> getClumpObjects(rng, rdata).convert(Clump::new));
+    }
+
+    private KList<IrisObject> getClumpObjects(RNG rng, IrisData rdata) {
+        return this.objects.aquire(() ->
         {
             RNG rngv = rng.nextParallelRNG(3957778);
             KList<IrisObject> objectsf = new KList<>();
@@ -90,7 +122,6 @@ public class IrisDepositGenerator {
 
             return objectsf;
         });
-        return objects.get(rng.i(0, objects.size() - 1));
     }
 
     public int getMaxDimension() {
@@ -137,4 +168,41 @@ public class IrisDepositGenerator {
             return blockData;
         });
     }
+
+    /**
+     * A clump flattened into parallel arrays so it can be stamped without touching its block map.
+     * Offsets are stored as x, y, z triples, and each ore has its deepslate and stone variant resolved up front.
+     */
+    @Getter
+    public static class Clump {
+        private static final BlockData STONE = Material.STONE.createBlockData();
+        private static final BlockData DEEPSLATE = Material.DEEPSLATE.createBlockData();
+        private final int width;
+        private final int[] offsets;
+        private final BlockData[] ores;
+        private final BlockData[] deepslateOres;
+
+        public Clump(IrisObject object) {
+            int size = object.getBlocks().size();
+            int i = 0;
+            width = object.getW();
+            offsets = new int[size * 3];
+            ores = new BlockData[size];
+            deepslateOres = new BlockData[size];
+
+            for (BlockVector j : object.getBlocks().keySet()) {
+                BlockData ore = object.getBlocks().get(j);
+                offsets[i * 3] = j.getBlockX();
+                offsets[i * 3 + 1] = j.getBlockY();
+                offsets[i * 3 + 2] = j.getBlockZ();
+                ores[i] = B.toDeepSlateOre(STONE, ore);
+                deepslateOres[i] = B.toDeepSlateOre(DEEPSLATE, ore);
+                i++;
+            }
+        }
+
+        public int size() {
+            return ores.length;
+        }
+    }
 }
@@ -23,8 +23,8 @@ import com.volmit.iris.core.loader.IrisData;
 import com.volmit.iris.core.loader.IrisRegistrant;
 import com.volmit.iris.engine.data.cache.AtomicCache;
 import com.volmit.iris.engine.framework.Engine;
-import com.volmit.iris.engine.framework.PlacedObject;
 import com.volmit.iris.engine.framework.placer.HeightmapObjectPlacer;
+import com.volmit.iris.engine.mantle.MantleWriter;
 import com.volmit.iris.util.collection.KList;
 import com.volmit.iris.util.collection.KMap;
 import com.volmit.iris.util.context.IrisContext;
@@ -33,11 +33,13 @@ import com.volmit.iris.util.data.IrisBlockData;
 import com.volmit.iris.util.format.Form;
 import com.volmit.iris.util.interpolation.IrisInterpolation;
 import com.volmit.iris.util.json.JSONObject;
+import com.volmit.iris.util.mantle.Mantle;
 import com.volmit.iris.util.math.AxisAlignedBB;
 import com.volmit.iris.util.math.BlockPosition;
 import com.volmit.iris.util.math.Position2;
 import com.volmit.iris.util.math.RNG;
 import com.volmit.iris.util.matter.MatterMarker;
+import com.volmit.iris.util.matter.MatterPlacedObject;
 import com.volmit.iris.util.parallel.BurstExecutor;
 import com.volmit.iris.util.parallel.MultiBurst;
 import com.volmit.iris.util.plugin.VolmitSender;
@@ -329,16 +331,16 @@ public class IrisObject extends IrisRegistrant {
         center = new BlockVector(w / 2, h / 2, d / 2);
         int s = din.readShort();
         int i;
-        KList<String> palette = new KList<>();
+        BlockData[] palette = new BlockData[s];
 
         for (i = 0; i < s; i++) {
-            palette.add(din.readUTF());
+            palette[i] = B.get(din.readUTF());
         }
 
         s = din.readInt();
 
         for (i = 0; i < s; i++) {
-            getBlocks().put(new BlockVector(din.readShort(), din.readShort(), din.readShort()), B.get(palette.get(din.readShort())));
+            getBlocks().put(new BlockVector(din.readShort(), din.readShort(), din.readShort()), palette[din.readShort()].clone());
         }
 
         s = din.readInt();
@@ -355,9 +357,14 @@ public class IrisObject extends IrisRegistrant {
         dos.writeInt(d);
         dos.writeUTF("Iris V2 IOB;");
         KList<String> palette = new KList<>();
+        KMap<String, Integer> indices = new KMap<>();
+        KMap<BlockData, Integer> blockIndices = new KMap<>();
 
         for (BlockData i : getBlocks().values()) {
-            palette.addIfMissing(i.getAsString());
+            blockIndices.computeIfAbsent(i, (k) -> indices.computeIfAbsent(k.getAsString(), (j) -> {
+                palette.add(j);
+                return palette.size() - 1;
+            }));
         }
 
         dos.writeShort(palette.size());
@@ -372,7 +379,7 @@ public class IrisObject extends IrisRegistrant {
             dos.writeShort(i.getBlockX());
             dos.writeShort(i.getBlockY());
             dos.writeShort(i.getBlockZ());
-            dos.writeShort(palette.indexOf(getBlocks().get(i).getAsString()));
+            dos.writeShort(blockIndices.get(getBlocks().get(i)));
         }
 
         dos.writeInt(getStates().size());
@@ -729,11 +736,9 @@ public class IrisObject extends IrisRegistrant {
             for (int i = x - Math.floorDiv(w, 2) + (int) offset.getX(); i <= x + Math.floorDiv(w, 2) - (w % 2 == 0 ? 1 : 0) + (int) offset.getX(); i++) {
                 for (int j = y - Math.floorDiv(h, 2)  + (int) offset.getY(); j <= y + Math.floorDiv(h, 2) - (h % 2 == 0 ? 1 : 0) + (int) offset.getY(); j++) {
                     for (int k = z - Math.floorDiv(d, 2) + (int) offset.getZ(); k <= z + Math.floorDiv(d, 2) - (d % 2 == 0 ? 1 : 0) + (int) offset.getX(); k++) {
-                        PlacedObject p = engine.getObjectPlacement(i, j, k);
+                        MatterPlacedObject p = engine.getPlacedObject(i, j, k);
                         if (p == null) continue;
-                        IrisObject o = p.getObject();
-                        if (o == null) continue;
-                        String key = o.getLoadKey();
+                        String key = p.getObject();
                         if (key != null) {
                             if (config.getForbiddenCollisions().contains(key) && !config.getAllowedCollisions().contains(key)) {
                                 // Iris.debug("%s collides with %s (%s / %s / %s)", getLoadKey(), key, i, j, k);
@@ -800,28 +805,31 @@ public class IrisObject extends IrisRegistrant {
                 }
             }
 
-            for (BlockVector g : getBlocks().keySet()) {
-                BlockData d;
+            RotatedObjectCache.Rotated rotated = RotatedObjectCache.get(this, config.getRotation(), spinx, spiny, spinz);
+
+            for (int r = 0; r < rotated.getSize(); r++) {
+                BlockVector g = rotated.getSource(r);
+                BlockData d = rotated.getBlock(r);
                 TileData<? extends TileState> tile = null;
+                boolean edited = false;
 
                 try {
-                    d = getBlocks().get(g);
                     tile = getStates().get(g);
                 } catch (Throwable e) {
                     Iris.reportError(e);
                     Iris.warn("Failed to read block node " + g.getBlockX() + "," + g.getBlockY() + "," + g.getBlockZ() + " in object " + getLoadKey() + " (cme)");
                     d = AIR;
+                    edited = true;
                 }
 
                 if (d == null) {
                     Iris.warn("Failed to read block node " + g.getBlockX() + "," + g.getBlockY() + "," + g.getBlockZ() + " in object " + getLoadKey() + " (null)");
                     d = AIR;
+                    edited = true;
                 }
 
-                BlockVector i = g.clone();
                 BlockData data = d.clone();
-                i = config.getRotation().rotate(i.clone(), spinx, spiny, spinz).clone();
-                i = config.getTranslate().translate(i.clone(), config.getRotation(), spinx, spiny, spinz).clone();
+                BlockVector i = config.getTranslate().translate(rotated.getPosition(r), config.getRotation(), spinx, spiny, spinz).clone();
 
                 if (stilting && i.getBlockY() < lowest && !B.isAir(data)) {
                     lowest = i.getBlockY();
@@ -829,6 +837,7 @@ public class IrisObject extends IrisRegistrant {
 
                 if (placer.isPreventingDecay() && (data) instanceof Leaves && !((Leaves) (data)).isPersistent()) {
                     ((Leaves) data).setPersistent(true);
+                    edited = true;
                 }
 
                 for (IrisObjectReplace j : config.getEdit()) {
@@ -842,6 +851,8 @@ public class IrisObject extends IrisRegistrant {
                                 else
                                     data = newData;
 
+                                edited = true;
+
                                 if (newData.getMaterial() == Material.SPAWNER) {
                                     Optional<TileData<?>> t = j.getReplace().getTile(rng, x, y, z, rdata);
                                     if (t.isPresent()) {
@@ -853,7 +864,7 @@ public class IrisObject extends IrisRegistrant {
                     }
                 }
 
-                data = config.getRotation().rotate(data, spinx, spiny, spinz);
+                data = edited ? config.getRotation().rotate(data, spinx, spiny, spinz) : rotated.getRotated(r);
                 xx = x + (int) Math.round(i.getX());
 
                 int yy = y + (int) Math.round(i.getY());
@@ -904,7 +915,8 @@ public class IrisObject extends IrisRegistrant {
                 }
 
                 if (markers != null && markers.containsKey(g)) {
-                    placer.getEngine().getMantle().getMantle().set(xx, yy, zz, new MatterMarker(markers.get(g)));
+                    Mantle mantle = placer instanceof MantleWriter writer ? writer.getMantle() : placer.getEngine().getMantle().getMantle();
+                    mantle.set(xx, yy, zz, new MatterMarker(markers.get(g)));
                 }
 
                 boolean wouldReplace = B.isSolid(placer.get(xx, yy, zz)) && B.isVineBlock(data);
@@ -925,30 +937,25 @@ public class IrisObject extends IrisRegistrant {
         if (stilting) {
             readLock.lock();
             IrisStiltSettings settings = config.getStiltSettings();
-            for (BlockVector g : getBlocks().keySet()) {
+            RotatedObjectCache.Rotated rotated = RotatedObjectCache.get(this, config.getRotation(), spinx, spiny, spinz);
+
+            for (int r = 0; r < rotated.getSize(); r++) {
+                BlockVector g = rotated.getSource(r);
                 BlockData d;
 
                 if (settings == null || settings.getPalette() == null) {
-                    try {
-                        d = getBlocks().get(g);
-                    } catch (Throwable e) {
-                        Iris.reportError(e);
-                        Iris.warn("Failed to read block node " + g.getBlockX() + "," + g.getBlockY() + "," + g.getBlockZ() + " in object " + getLoadKey() + " (stilt cme)");
-                        d = AIR;
-                    }
+                    d = rotated.getBlock(r);
 
                     if (d == null) {
                         Iris.warn("Failed to read block node " + g.getBlockX() + "," + g.getBlockY() + "," + g.getBlockZ() + " in object " + getLoadKey() + " (stilt null)");
                         d = AIR;
+                    } else {
+                        d = rotated.getRotated(r);
                     }
                 } else
-                    d = config.getStiltSettings().getPalette().get(rng, x, y, z, rdata);
-
+                    d = config.getRotation().rotate(config.getStiltSettings().getPalette().get(rng, x, y, z, rdata), spinx, spiny, spinz);
 
-                BlockVector i = g.clone();
-                i = config.getRotation().rotate(i.clone(), spinx, spiny, spinz).clone();
-                i = config.getTranslate().translate(i.clone(), config.getRotation(), spinx, spiny, spinz).clone();
-                d = config.getRotation().rotate(d, spinx, spiny, spinz);
+                BlockVector i = config.getTranslate().translate(rotated.getPosition(r), config.getRotation(), spinx, spiny, spinz).clone();
 
                 if (i.getBlockY() != lowest)
                     continue;
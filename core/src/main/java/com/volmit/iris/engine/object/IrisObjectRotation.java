@@ -22,6 +22,9 @@ import com.volmit.iris.Iris;
 import com.volmit.iris.engine.object.annotations.Desc;
 import com.volmit.iris.engine.object.annotations.Snippet;
 import com.volmit.iris.util.collection.KList;
+import com.volmit.iris.util.collection.KMap;
+import com.volmit.iris.util.data.IrisBlockData;
+import com.volmit.iris.util.math.Orientation;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -33,6 +36,8 @@ import org.bukkit.block.data.*;
 import org.bukkit.util.BlockVector;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 @Snippet("object-rotator")
 @Accessors(chain = true)
@@ -53,6 +58,8 @@ public class IrisObjectRotation {
     @Desc("The z axis rotation")
     private IrisAxisRotationClamp zAxis = new IrisAxisRotationClamp();
 
+    private final transient KMap<Long, Optional<Orientation>> orientations = new KMap<>();
+
     public static IrisObjectRotation of(double x, double y, double z) {
         IrisObjectRotation rt = new IrisObjectRotation();
         IrisAxisRotationClamp rtx = new IrisAxisRotationClamp();
@@ -223,20 +230,37 @@ public class IrisObjectRotation {
     }
 
     public BlockData rotate(BlockData dd, int spinxx, int spinyy, int spinzz) {
-        BlockData d = dd;
-        try {
-            int spinx = (int) (90D * (Math.ceil(Math.abs((spinxx % 360D) / 90D))));
-            int spiny = (int) (90D * (Math.ceil(Math.abs((spinyy % 360D) / 90D))));
-            int spinz = (int) (90D * (Math.ceil(Math.abs((spinzz % 360D) / 90D))));
+        if (!canRotate()) {
+            return dd;
+        }
 
-            if (!canRotate()) {
-                return d;
-            }
+        int spinx = (int) (90D * (Math.ceil(Math.abs((spinxx % 360D) / 90D))));
+        int spiny = (int) (90D * (Math.ceil(Math.abs((spinyy % 360D) / 90D))));
+        int spinz = (int) (90D * (Math.ceil(Math.abs((spinzz % 360D) / 90D))));
+        Orientation o = getOrientation(spinx, spiny, spinz);
+
+        if (o == null) {
+            return rotateBlock(dd, (v) -> rotateFree(v, spinx, spiny, spinz));
+        }
+
+        if (o.isIdentity()) {
+            return dd;
+        }
+
+        if (dd instanceof IrisBlockData) {
+            return rotateBlock(dd, o::apply);
+        }
+
+        return o.rotate(dd, (d) -> rotateBlock(d, o::apply));
+    }
 
+    private BlockData rotateBlock(BlockData dd, UnaryOperator<BlockVector> rotate) {
+        BlockData d = dd;
+        try {
             if (d instanceof Directional g) {
                 BlockFace f = g.getFacing();
                 BlockVector bv = new BlockVector(f.getModX(), f.getModY(), f.getModZ());
-                bv = rotate(bv.clone(), spinx, spiny, spinz);
+                bv = rotate.apply(bv);
                 BlockFace t = getFace(bv);
 
                 if (g.getFaces().contains(t)) {
@@ -248,7 +272,7 @@ public class IrisObjectRotation {
                 BlockFace f = g.getRotation();
 
                 BlockVector bv = new BlockVector(f.getModX(), 0, f.getModZ());
-                bv = rotate(bv.clone(), spinx, spiny, spinz);
+                bv = rotate.apply(bv);
                 BlockFace face = getHexFace(bv);
 
                 g.setRotation(face);
@@ -256,7 +280,7 @@ public class IrisObjectRotation {
             } else if (d instanceof Orientable) {
                 BlockFace f = getFace(((Orientable) d).getAxis());
                 BlockVector bv = new BlockVector(f.getModX(), f.getModY(), f.getModZ());
-                bv = rotate(bv.clone(), spinx, spiny, spinz);
+                bv = rotate.apply(bv);
                 Axis a = getAxis(bv);
 
                 if (!a.equals(((Orientable) d).getAxis()) && ((Orientable) d).getAxes().contains(a)) {
@@ -267,7 +291,7 @@ public class IrisObjectRotation {
 
                 for (BlockFace i : g.getFaces()) {
                     BlockVector bv = new BlockVector(i.getModX(), i.getModY(), i.getModZ());
-                    bv = rotate(bv.clone(), spinx, spiny, spinz);
+                    bv = rotate.apply(bv);
                     BlockFace r = getFace(bv);
 
                     if (g.getAllowedFaces().contains(r)) {
@@ -286,7 +310,7 @@ public class IrisObjectRotation {
                 //TODO: Fucks up logs
                 BlockFace f = faceForAxis(g.getAxis());
                 BlockVector bv = new BlockVector(f.getModX(), f.getModY(), f.getModZ());
-                bv = rotate(bv.clone(), spinx, spiny, spinz);
+                bv = rotate.apply(bv);
                 BlockFace t = getFace(bv);
                 Axis a = !g.getAxes().contains(Axis.Y) ? axisFor(t) : axisFor2D(t);
                 ((Orientable) d).setAxis(a);
@@ -336,6 +360,54 @@ public class IrisObjectRotation {
             return b;
         }
 
+        Orientation o = getOrientation(spinx, spiny, spinz);
+        return o != null ? o.apply(b) : rotateFree(b, spinx, spiny, spinz);
+    }
+
+    /**
+     * Resolve the rotation for the given spins into one of the 24 right angle orientations. The result
+     * is cached per effective angle.
+     *
+     * @return the orientation or null if this rotation is not a multiple of 90 degrees
+     */
+    public Orientation getOrientation(int spinx, int spiny, int spinz) {
+        if (!canRotate()) {
+            return Orientation.IDENTITY;
+        }
+
+        long key = (angleKey(canRotateX() ? getXRotation(spinx) : 0) << 40)
+                | (angleKey(canRotateY() ? getYRotation(spiny) : 0) << 20)
+                | angleKey(canRotateZ() ? getZRotation(spinz) : 0);
+
+        return orientations.computeIfAbsent(key, (k) -> Optional.ofNullable(compile(spinx, spiny, spinz))).orElse(null);
+    }
+
+    private static long angleKey(double radians) {
+        return Math.round(Math.toDegrees(radians) * 1000D) + 360_000L;
+    }
+
+    private Orientation compile(int spinx, int spiny, int spinz) {
+        int[] m = new int[9];
+
+        for (int c = 0; c < 3; c++) {
+            BlockVector v = rotateFree(new BlockVector(c == 0 ? 1 : 0, c == 1 ? 1 : 0, c == 2 ? 1 : 0), spinx, spiny, spinz);
+            double[] r = {v.getX(), v.getY(), v.getZ()};
+
+            for (int row = 0; row < 3; row++) {
+                long n = Math.round(r[row]);
+
+                if (Math.abs(r[row] - n) > 1.0E-6) {
+                    return null;
+                }
+
+                m[row * 3 + c] = (int) n;
+            }
+        }
+
+        return Orientation.of(m);
+    }
+
+    private BlockVector rotateFree(BlockVector b, int spinx, int spiny, int spinz) {
         BlockVector v = b.clone();
 
         if (canRotateX()) {
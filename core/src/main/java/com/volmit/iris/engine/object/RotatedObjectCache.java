@@ -0,0 +1,228 @@
+/*
+ * Iris is a World Generator for Minecraft Bukkit Servers
+ * Copyright (c) 2022 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.volmit.iris.engine.object;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.volmit.iris.core.IrisSettings;
+import com.volmit.iris.util.math.Orientation;
+import lombok.Getter;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.util.BlockVector;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Shares pre-rotated objects between placements. Entries are keyed by object instance (weakly) and
+ * right angle orientation, so an object placed thousands of times is only rotated once per orientation.
+ * The cache is bounded by an estimate of its size in bytes, see {@code performance.rotatedObjectCacheMB}.
+ */
+public class RotatedObjectCache {
+    private static final Cache<IrisObject, Entry> cache = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumWeight(Math.max(1, IrisSettings.get().getPerformance().getRotatedObjectCacheMB()) * 1024L * 1024L)
+            .weigher((IrisObject k, Entry v) -> v.weight())
+            .build();
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Get the blocks of an object rotated for a placement
+     *
+     * @return the rotated blocks, not cached if the rotation is not a right angle one
+     */
+    public static Rotated get(IrisObject object, IrisObjectRotation rotation, int spinx, int spiny, int spinz) {
+        Orientation o = orientation(rotation, spinx, spiny, spinz);
+
+        if (o == null) {
+            return new Rotated(object, rotation, spinx, spiny, spinz);
+        }
+
+        Entry e = cache.get(object, (k) -> new Entry());
+        Rotated r = e.rotated.get(o.getId());
+
+        if (r != null) {
+            hits.incrementAndGet();
+            return r;
+        }
+
+        misses.incrementAndGet();
+        r = new Rotated(object, rotation, spinx, spiny, spinz);
+        e.rotated.set(o.getId(), r);
+        cache.asMap().computeIfPresent(object, (k, v) -> new Entry(v));
+        return r;
+    }
+
+    /**
+     * Get a rotated copy of an object, like {@link IrisObjectRotation#rotateCopy(IrisObject)}
+     */
+    public static IrisObject getCopy(IrisObject object, IrisObjectRotation rotation) {
+        Orientation o = orientation(rotation, 0, 0, 0);
+
+        if (o == null) {
+            return rotation.rotateCopy(object);
+        }
+
+        Entry e = cache.get(object, (k) -> new Entry());
+        IrisObject r = e.copies.get(o.getId());
+
+        if (r != null) {
+            hits.incrementAndGet();
+            return r;
+        }
+
+        misses.incrementAndGet();
+        r = rotation.rotateCopy(object);
+        e.copies.set(o.getId(), r);
+        cache.asMap().computeIfPresent(object, (k, v) -> new Entry(v));
+        return r;
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    public static long getEntries() {
+        return cache.estimatedSize();
+    }
+
+    public static long getBytes() {
+        return cache.policy().eviction().map((e) -> e.weightedSize().orElse(0)).orElse(0L);
+    }
+
+    public static long getMaxBytes() {
+        return cache.policy().eviction().map((e) -> e.getMaximum()).orElse(0L);
+    }
+
+    private static Orientation orientation(IrisObjectRotation rotation, int spinx, int spiny, int spinz) {
+        if (!rotation.canRotate()) {
+            return Orientation.IDENTITY;
+        }
+
+        Orientation o = rotation.getOrientation(spinx, spiny, spinz);
+        Orientation d = rotation.getOrientation(quantize(spinx), quantize(spiny), quantize(spinz));
+        return o == d ? o : null;
+    }
+
+    private static int quantize(int spin) {
+        return (int) (90D * (Math.ceil(Math.abs((spin % 360D) / 90D))));
+    }
+
+    /**
+     * Replaced with a copy sharing the same slots whenever a slot is filled so the cache weighs it again
+     */
+    private static class Entry {
+        private final AtomicReferenceArray<Rotated> rotated;
+        private final AtomicReferenceArray<IrisObject> copies;
+
+        private Entry() {
+            rotated = new AtomicReferenceArray<>(Orientation.COUNT);
+            copies = new AtomicReferenceArray<>(Orientation.COUNT);
+        }
+
+        private Entry(Entry e) {
+            rotated = e.rotated;
+            copies = e.copies;
+        }
+
+        private int weight() {
+            long w = 64;
+
+            for (int i = 0; i < Orientation.COUNT; i++) {
+                Rotated r = rotated.get(i);
+                IrisObject c = copies.get(i);
+                w += r == null ? 0 : r.bytes();
+                w += c == null ? 0 : c.getBlocks().size() * 96L;
+            }
+
+            return (int) Math.min(Integer.MAX_VALUE, w);
+        }
+    }
+
+    /**
+     * The blocks of an object in placement order with their rotated position and rotated state.
+     * The source vectors are the keys of the object and can be used to look up tiles or markers.
+     */
+    public static class Rotated {
+        @Getter
+        private final int size;
+        private final BlockVector[] sources;
+        private final BlockData[] blocks;
+        private final double[] positions;
+        private final BlockData[] rotated;
+
+        private Rotated(IrisObject object, IrisObjectRotation rotation, int spinx, int spiny, int spinz) {
+            int n = object.getBlocks().size();
+            sources = new BlockVector[n];
+            blocks = new BlockData[n];
+            positions = new double[n * 3];
+            rotated = new BlockData[n];
+            int i = 0;
+
+            for (BlockVector g : object.getBlocks().keySet()) {
+                if (i >= n) {
+                    break;
+                }
+
+                BlockData d = object.getBlocks().get(g);
+                BlockVector v = rotation.rotate(g, spinx, spiny, spinz);
+                sources[i] = g;
+                blocks[i] = d;
+                positions[i * 3] = v.getX();
+                positions[i * 3 + 1] = v.getY();
+                positions[i * 3 + 2] = v.getZ();
+                rotated[i] = d == null ? null : rotation.rotate(d.clone(), spinx, spiny, spinz);
+                i++;
+            }
+
+            size = i;
+        }
+
+        public BlockVector getSource(int i) {
+            return sources[i];
+        }
+
+        /**
+         * @return the unrotated block, may be null if the object was edited while this was built
+         */
+        public BlockData getBlock(int i) {
+            return blocks[i];
+        }
+
+        public BlockVector getPosition(int i) {
+            return new BlockVector(positions[i * 3], positions[i * 3 + 1], positions[i * 3 + 2]);
+        }
+
+        /**
+         * @return a copy of the rotated block or null if it can't exist in this orientation
+         */
+        public BlockData getRotated(int i) {
+            return rotated[i] == null ? null : rotated[i].clone();
+        }
+
+        private long bytes() {
+            return 64L + size * 64L;
+        }
+    }
+}
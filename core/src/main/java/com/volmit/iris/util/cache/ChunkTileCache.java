@@ -0,0 +1,122 @@
+package com.volmit.iris.util.cache;
+
+import com.volmit.iris.engine.data.cache.Cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A bounded, lock free table of per chunk tiles keyed by packed chunk coordinates.
+ * Tiles are found by open addressing within a small probe window, a full window
+ * evicts with the clock (second chance) policy so recently used tiles survive.
+ * A lost insert race re-reads the slot, so racing misses of the same chunk share one tile.
+ * If the window stays busy for both eviction passes the tile is handed out uncached.
+ *
+ * @param <V> the tile type
+ */
+public class ChunkTileCache<V> {
+    private static final int PROBE = 8;
+    private final AtomicReferenceArray<Entry<V>> slots;
+    private final Supplier<V> factory;
+    private final int mask;
+    private final AtomicInteger size;
+    private final LongAdder evictions;
+
+    public ChunkTileCache(Supplier<V> factory, int capacity) {
+        int length = Integer.highestOneBit(Math.max(capacity, PROBE) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(length);
+        this.factory = factory;
+        this.mask = length - 1;
+        this.size = new AtomicInteger(0);
+        this.evictions = new LongAdder();
+    }
+
+    private static int mix(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+
+    public V get(int x, int z) {
+        long key = Cache.key(x, z);
+        int h = mix(key);
+
+        for (int i = 0; i < PROBE; i++) {
+            Entry<V> e = slots.get((h + i) & mask);
+
+            if (e != null && e.key == key) {
+                if (!e.referenced) {
+                    e.referenced = true;
+                }
+
+                return e.tile;
+            }
+        }
+
+        return insert(h, new Entry<>(key, factory.get()));
+    }
+
+    private V insert(int h, Entry<V> n) {
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < PROBE; i++) {
+                int idx = (h + i) & mask;
+                Entry<V> e = slots.get(idx);
+
+                while (true) {
+                    if (e != null && e.key == n.key) {
+                        return e.tile;
+                    }
+
+                    if (e == null) {
+                        if (slots.compareAndSet(idx, null, n)) {
+                            size.incrementAndGet();
+                            return n.tile;
+                        }
+                    } else if (e.referenced) {
+                        e.referenced = false;
+                        break;
+                    } else if (slots.compareAndSet(idx, e, n)) {
+                        evictions.increment();
+                        return n.tile;
+                    }
+
+                    e = slots.get(idx);
+                }
+            }
+        }
+
+        return n.tile;
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+
+        size.set(0);
+    }
+
+    public int getSize() {
+        return size.get();
+    }
+
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private static class Entry<V> {
+        private final long key;
+        private final V tile;
+        private volatile boolean referenced;
+
+        private Entry(long key, V tile) {
+            this.key = key;
+            this.tile = tile;
+            this.referenced = true;
+        }
+    }
+}
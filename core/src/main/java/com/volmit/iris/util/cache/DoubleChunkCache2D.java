@@ -0,0 +1,31 @@
+package com.volmit.iris.util.cache;
+
+import com.volmit.iris.util.stream.primitive.DoubleStream2D;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class DoubleChunkCache2D {
+    private static final long EMPTY = Double.doubleToRawLongBits(Double.NaN);
+    private final AtomicLongArray cache;
+
+    public DoubleChunkCache2D() {
+        this.cache = new AtomicLongArray(256);
+
+        for (int i = 0; i < 256; i++) {
+            cache.set(i, EMPTY);
+        }
+    }
+
+    public double get(int x, int z, DoubleStream2D resolver) {
+        int key = ((z & 15) * 16) + (x & 15);
+        long t = cache.get(key);
+
+        if (t == EMPTY) {
+            double v = resolver.getDouble(x, z);
+            cache.set(key, Double.doubleToRawLongBits(v));
+            return v;
+        }
+
+        return Double.longBitsToDouble(t);
+    }
+}
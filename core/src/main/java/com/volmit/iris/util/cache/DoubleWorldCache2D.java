@@ -0,0 +1,51 @@
+package com.volmit.iris.util.cache;
+
+import com.volmit.iris.util.stream.primitive.DoubleStream2D;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class DoubleWorldCache2D {
+    private final ChunkTileCache<DoubleChunkCache2D> chunks;
+    private final DoubleStream2D resolver;
+    private final LongAdder requests;
+    private final LongAdder misses;
+
+    public DoubleWorldCache2D(DoubleStream2D resolver) {
+        this(resolver, 1024);
+    }
+
+    public DoubleWorldCache2D(DoubleStream2D resolver, int size) {
+        this.requests = new LongAdder();
+        this.misses = new LongAdder();
+        this.resolver = (x, z) -> {
+            misses.increment();
+            return resolver.getDouble(x, z);
+        };
+        chunks = new ChunkTileCache<>(DoubleChunkCache2D::new, size);
+    }
+
+    public double get(int x, int z) {
+        requests.increment();
+        return chunks.get(x >> 4, z >> 4).get(x, z, resolver);
+    }
+
+    public long getSize() {
+        return chunks.getSize() * 256L;
+    }
+
+    public long getMaxSize() {
+        return chunks.getCapacity() * 256L;
+    }
+
+    public long getHits() {
+        return requests.sum() - misses.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return chunks.getEvictions();
+    }
+}
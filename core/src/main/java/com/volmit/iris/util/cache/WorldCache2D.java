@@ -1,24 +1,51 @@
 package com.volmit.iris.util.cache;
 
-import com.volmit.iris.engine.data.cache.Cache;
-import com.volmit.iris.util.data.KCache;
 import com.volmit.iris.util.function.Function2;
 
+import java.util.concurrent.atomic.LongAdder;
+
 public class WorldCache2D<T> {
-    private final KCache<Long, ChunkCache2D<T>> chunks;
+    private final ChunkTileCache<ChunkCache2D<T>> chunks;
     private final Function2<Integer, Integer, T> resolver;
+    private final LongAdder requests;
+    private final LongAdder misses;
 
     public WorldCache2D(Function2<Integer, Integer, T> resolver) {
-        this.resolver = resolver;
-        chunks = new KCache<>((x) -> new ChunkCache2D<>(), 1024);
+        this(resolver, 1024);
+    }
+
+    public WorldCache2D(Function2<Integer, Integer, T> resolver, int size) {
+        this.requests = new LongAdder();
+        this.misses = new LongAdder();
+        this.resolver = (x, z) -> {
+            misses.increment();
+            return resolver.apply(x, z);
+        };
+        chunks = new ChunkTileCache<>(ChunkCache2D::new, size);
     }
 
     public T get(int x, int z) {
-        ChunkCache2D<T> chunk = chunks.get(Cache.key(x >> 4, z >> 4));
-        return chunk.get(x, z, resolver);
+        requests.increment();
+        return chunks.get(x >> 4, z >> 4).get(x, z, resolver);
     }
 
     public long getSize() {
         return chunks.getSize() * 256L;
     }
+
+    public long getMaxSize() {
+        return chunks.getCapacity() * 256L;
+    }
+
+    public long getHits() {
+        return requests.sum() - misses.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return chunks.getEvictions();
+    }
 }
@@ -1,16 +1,19 @@
 package com.volmit.iris.util.context;
 
-import com.volmit.iris.util.collection.KSet;
 import com.volmit.iris.util.documentation.BlockCoordinates;
 import com.volmit.iris.util.parallel.BurstExecutor;
 import com.volmit.iris.util.stream.ProceduralStream;
 import lombok.Data;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
 @Data
 public class ChunkedDataCache<T> {
     private final int x;
     private final int z;
-    private final KSet<T> uniques;
+    private final Set<T> uniques;
     private final Object[] data;
     private final boolean cache;
     private final ProceduralStream<T> stream;
@@ -26,27 +29,33 @@ public class ChunkedDataCache<T> {
         this.cache = cache;
         this.x = x;
         this.z = z;
-        this.uniques = cache ? new KSet<>() : null;
+        this.uniques = cache ? Collections.newSetFromMap(new IdentityHashMap<>()) : null;
         if (cache) {
             data = new Object[256];
-            int i, j;
-
-            for (i = 0; i < 16; i++) {
-                int finalI = i;
-                for (j = 0; j < 16; j++) {
-                    int finalJ = j;
-                    burst.queue(() -> {
-                        T t = stream.get(x + finalI, z + finalJ);
-                        data[(finalJ * 16) + finalI] = t;
-                        uniques.add(t);
-                    });
-                }
+
+            if (burst == null) {
+                fill();
+            } else {
+                burst.queue(this::fill);
             }
         } else {
             data = new Object[0];
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private void fill() {
+        stream.fillChunk(x >> 4, z >> 4, (T[]) data);
+        T last = null;
+
+        for (Object i : data) {
+            if (i != last) {
+                last = (T) i;
+                uniques.add(last);
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @BlockCoordinates
     public T get(int x, int z) {
@@ -22,14 +22,25 @@ import com.volmit.iris.Iris;
 import com.volmit.iris.core.loader.IrisData;
 import com.volmit.iris.engine.IrisComplex;
 import com.volmit.iris.engine.framework.Engine;
-import com.volmit.iris.util.collection.KMap;
-import com.volmit.iris.util.scheduling.ChronoLatch;
 import lombok.Data;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
 @Data
 public class IrisContext {
-    private static final KMap<Thread, IrisContext> context = new KMap<>();
-    private static ChronoLatch cl = new ChronoLatch(60000);
+    /**
+     * Each thread owns a slot, so lookups and touches never contend with other threads.
+     * The slots are also tracked by thread so {@link #dereference()} can let go of closed engines
+     * on idle pool threads without taking a lock.
+     */
+    private static final Map<Thread, AtomicReference<IrisContext>> slots = new ConcurrentHashMap<>();
+    private static final ThreadLocal<AtomicReference<IrisContext>> context = ThreadLocal.withInitial(() -> {
+        AtomicReference<IrisContext> slot = new AtomicReference<>();
+        slots.put(Thread.currentThread(), slot);
+        return slot;
+    });
     private final Engine engine;
     private ChunkContext chunkContext;
 
@@ -49,29 +60,21 @@ public class IrisContext {
     }
 
     public static IrisContext get() {
-        return context.get(Thread.currentThread());
+        return context.get().get();
     }
 
     public static void touch(IrisContext c) {
-        synchronized (context) {
-            context.put(Thread.currentThread(), c);
-
-            if (cl.flip()) {
-                dereference();
-            }
-        }
+        context.get().set(c);
     }
 
     public static void dereference() {
-        synchronized (context) {
-            for (Thread i : context.k()) {
-                if (!i.isAlive() || context.get(i).engine.isClosed()) {
-                    if (context.get(i).engine.isClosed()) {
-                        Iris.debug("Dereferenced Context<Engine> " + i.getName() + " " + i.getId());
-                    }
-
-                    context.remove(i);
-                }
+        slots.entrySet().removeIf(i -> !i.getKey().isAlive());
+
+        for (Map.Entry<Thread, AtomicReference<IrisContext>> i : slots.entrySet()) {
+            IrisContext c = i.getValue().get();
+
+            if (c != null && c.engine.isClosed() && i.getValue().compareAndSet(c, null)) {
+                Iris.debug("Dereferenced Context<Engine> " + i.getKey().getName() + " " + i.getKey().getId());
             }
         }
     }
@@ -0,0 +1,133 @@
+/*
+ * Iris is a World Generator for Minecraft Bukkit Servers
+ * Copyright (c) 2022 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.volmit.iris.util.data;
+
+import org.bukkit.Bukkit;
+import org.bukkit.block.data.BlockData;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns every block state seen by this server a compact int id and remembers its string form,
+ * so serializers only format and parse each distinct state once.
+ * Ids are handed out in encounter order and are only valid for the lifetime of the server.
+ * States handed out by {@link #get(int)} are shared and must not be modified.
+ */
+public class BlockStateRegistry {
+    private static final Map<BlockData, Integer> ids = new ConcurrentHashMap<>();
+    private static final Map<String, Integer> keys = new ConcurrentHashMap<>();
+    private static volatile BlockData[] states = new BlockData[64];
+    private static volatile String[] strings = new String[64];
+    private static int size = 0;
+
+    /**
+     * Get the id of a block state, registering it if it hasn't been seen yet
+     *
+     * @param data the block state
+     * @return the id
+     */
+    public static int getId(BlockData data) {
+        Integer id = ids.get(data);
+        return id != null ? id : register(data, data.getAsString(true));
+    }
+
+    /**
+     * Get the id of a serialized block state, parsing it only if it hasn't been seen yet
+     *
+     * @param state the block state string
+     * @return the id
+     * @throws IllegalArgumentException if the string is not a valid block state
+     */
+    public static int getId(String state) {
+        Integer id = keys.get(state);
+
+        if (id != null) {
+            return id;
+        }
+
+        BlockData data = Bukkit.createBlockData(state);
+        id = ids.get(data);
+        int resolved = id != null ? id : register(data, data.getAsString(true));
+        keys.putIfAbsent(state, resolved);
+        return resolved;
+    }
+
+    /**
+     * Get the shared block state of an id, do not modify it
+     */
+    public static BlockData get(int id) {
+        return states[id];
+    }
+
+    /**
+     * Get a fresh copy of the block state of an id
+     */
+    public static BlockData create(int id) {
+        return states[id].clone();
+    }
+
+    public static String getString(int id) {
+        return strings[id];
+    }
+
+    /**
+     * Format a block state like {@link BlockData#getAsString(boolean)} with hidden unspecified states
+     */
+    public static String toString(BlockData data) {
+        if (data instanceof IrisBlockData) {
+            return data.getAsString(true);
+        }
+
+        return strings[getId(data)];
+    }
+
+    /**
+     * Parse a block state like {@link Bukkit#createBlockData(String)} without parsing known states again
+     */
+    public static BlockData parse(String state) {
+        return create(getId(state));
+    }
+
+    public static int size() {
+        return size;
+    }
+
+    private static synchronized int register(BlockData data, String string) {
+        Integer existing = ids.get(data);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        int id = size;
+        if (id >= states.length) {
+            strings = Arrays.copyOf(strings, id << 1);
+            states = Arrays.copyOf(states, id << 1);
+        }
+
+        strings[id] = string;
+        states[id] = data.clone();
+        size = id + 1;
+        ids.put(states[id], id);
+        keys.putIfAbsent(string, id);
+        return id;
+    }
+}
@@ -746,6 +746,72 @@ public interface Hunk<T> {
         return this;
     }
 
+    /**
+     * Visit every coordinate of this hunk on the calling thread without boxing the coordinates
+     *
+     * @param c the consumer
+     * @return this
+     */
+    default Hunk<T> forEachXYZ(IntXYZConsumer c) {
+        for (int i = 0; i < getWidth(); i++) {
+            for (int j = 0; j < getHeight(); j++) {
+                for (int k = 0; k < getDepth(); k++) {
+                    c.accept(i, j, k);
+                }
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * The primitive counterpart of {@link #iterateSync(Consumer4)}. Storage hunks may skip empty entries
+     * and visit in their own storage order, so callers must not depend on the order.
+     *
+     * @param c the consumer
+     * @return this
+     */
+    default Hunk<T> forEachXYZ(IntXYZObjConsumer<T> c) {
+        for (int i = 0; i < getWidth(); i++) {
+            for (int j = 0; j < getHeight(); j++) {
+                for (int k = 0; k < getDepth(); k++) {
+                    c.accept(i, j, k, get(i, j, k));
+                }
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * The primitive counterpart of {@link #iterateSyncIO(Consumer4IO)}. Unlike {@link #forEachXYZ(IntXYZObjConsumer)}
+     * the order is always the same as iterateSyncIO, since serialized data depends on it.
+     *
+     * @param c the consumer
+     * @return this
+     */
+    default Hunk<T> forEachXYZIO(IntXYZObjConsumerIO<T> c) throws IOException {
+        for (int i = 0; i < getWidth(); i++) {
+            for (int j = 0; j < getHeight(); j++) {
+                for (int k = 0; k < getDepth(); k++) {
+                    c.accept(i, j, k, get(i, j, k));
+                }
+            }
+        }
+
+        return this;
+    }
+
+    default Hunk<T> forEachXYZ(int parallelism, IntXYZObjConsumer<T> c) {
+        compute3D(parallelism, (x, y, z, h) ->
+        {
+            int ox = x, oy = y, oz = z;
+            h.forEachXYZ((i, j, k, t) -> c.accept(i + ox, j + oy, k + oz, t));
+        });
+
+        return this;
+    }
+
     default Hunk<T> iterate(int parallelism, Consumer3<Integer, Integer, Integer> c) {
         compute3D(parallelism, (x, y, z, h) ->
         {
@@ -1083,6 +1149,39 @@ public interface Hunk<T> {
         }
     }
 
+    /**
+     * Fill a vertical run of one column with a single value. The run is clipped to the hunk.
+     *
+     * @param x     the x
+     * @param z     the z
+     * @param yFrom inclusive start y
+     * @param yTo   exclusive end y
+     * @param t     the value to set
+     */
+    default void setColumn(int x, int z, int yFrom, int yTo, T t) {
+        for (int y = Math.max(yFrom, 0); y < Math.min(yTo, getHeight()); y++) {
+            setRaw(x, y, z, t);
+        }
+    }
+
+    /**
+     * Write a vertical run of one column, values[i] goes to yFrom + i. Null values are skipped
+     * and the run is clipped to the hunk.
+     *
+     * @param x      the x
+     * @param z      the z
+     * @param yFrom  the y of values[0]
+     * @param values the values
+     * @param length how many values to write
+     */
+    default void setColumn(int x, int z, int yFrom, T[] values, int length) {
+        for (int i = Math.max(0, -yFrom); i < Math.min(length, getHeight() - yFrom); i++) {
+            if (values[i] != null) {
+                setRaw(x, yFrom + i, z, values[i]);
+            }
+        }
+    }
+
     /**
      * Get the value to the closest valid position
      *
@@ -19,6 +19,7 @@
 package com.volmit.iris.util.hunk.storage;
 
 import com.volmit.iris.engine.data.cache.Cache;
+import com.volmit.iris.util.function.IntXYZObjConsumer;
 import com.volmit.iris.util.hunk.Hunk;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -51,6 +52,50 @@ public class ArrayHunk<T> extends StorageHunk<T> implements Hunk<T> {
         return Cache.to1D(x, y, z, getWidth(), getHeight());
     }
 
+    @Override
+    public Hunk<T> forEachXYZ(IntXYZObjConsumer<T> c) {
+        int w = getWidth();
+        int h = getHeight();
+        int x = 0, y = 0, z = 0;
+
+        for (T t : data) {
+            c.accept(x, y, z, t);
+
+            if (++x == w) {
+                x = 0;
+
+                if (++y == h) {
+                    y = 0;
+                    z++;
+                }
+            }
+        }
+
+        return this;
+    }
+
+    @Override
+    public void setColumn(int x, int z, int yFrom, int yTo, T t) {
+        int from = Math.max(yFrom, 0);
+        int to = Math.min(yTo, getHeight());
+
+        for (int y = from, i = index(x, from, z); y < to; y++, i += getWidth()) {
+            data[i] = t;
+        }
+    }
+
+    @Override
+    public void setColumn(int x, int z, int yFrom, T[] values, int length) {
+        int from = Math.max(0, -yFrom);
+        int to = Math.min(length, getHeight() - yFrom);
+
+        for (int v = from, i = index(x, yFrom + from, z); v < to; v++, i += getWidth()) {
+            if (values[v] != null) {
+                data[i] = values[v];
+            }
+        }
+    }
+
     @Override
     public void fill(T t) {
         Arrays.fill(data, t);
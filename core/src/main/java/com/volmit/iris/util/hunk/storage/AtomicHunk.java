@@ -50,6 +50,31 @@ public class AtomicHunk<T> extends StorageHunk<T> implements Hunk<T> {
         return data.get(index(x, y, z));
     }
 
+    /**
+     * Column writes use lazySet, readers of a generated hunk always wait for the burst that wrote it to complete.
+     */
+    @Override
+    public void setColumn(int x, int z, int yFrom, int yTo, T t) {
+        int from = Math.max(yFrom, 0);
+        int to = Math.min(yTo, getHeight());
+
+        for (int y = from, i = index(x, from, z); y < to; y++, i += getWidth()) {
+            data.lazySet(i, t);
+        }
+    }
+
+    @Override
+    public void setColumn(int x, int z, int yFrom, T[] values, int length) {
+        int from = Math.max(0, -yFrom);
+        int to = Math.min(length, getHeight() - yFrom);
+
+        for (int v = from, i = index(x, yFrom + from, z); v < to; v++, i += getWidth()) {
+            if (values[v] != null) {
+                data.lazySet(i, values[v]);
+            }
+        }
+    }
+
     private int index(int x, int y, int z) {
         return (z * getWidth() * getHeight()) + (y * getWidth()) + x;
     }
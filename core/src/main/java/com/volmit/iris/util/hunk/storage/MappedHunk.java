@@ -21,6 +21,8 @@ package com.volmit.iris.util.hunk.storage;
 import com.volmit.iris.util.collection.KMap;
 import com.volmit.iris.util.function.Consumer4;
 import com.volmit.iris.util.function.Consumer4IO;
+import com.volmit.iris.util.function.IntXYZObjConsumer;
+import com.volmit.iris.util.function.IntXYZObjConsumerIO;
 import com.volmit.iris.util.hunk.Hunk;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -93,6 +95,36 @@ public class MappedHunk<T> extends StorageHunk<T> implements Hunk<T> {
         return this;
     }
 
+    @Override
+    public synchronized Hunk<T> forEachXYZ(IntXYZObjConsumer<T> c) {
+        int idx, z;
+        int wh = getWidth() * getHeight();
+
+        for (Map.Entry<Integer, T> g : data.entrySet()) {
+            idx = g.getKey();
+            z = idx / wh;
+            idx -= z * wh;
+            c.accept(idx % getWidth(), idx / getWidth(), z, g.getValue());
+        }
+
+        return this;
+    }
+
+    @Override
+    public synchronized Hunk<T> forEachXYZIO(IntXYZObjConsumerIO<T> c) throws IOException {
+        int idx, z;
+        int wh = getWidth() * getHeight();
+
+        for (Map.Entry<Integer, T> g : data.entrySet()) {
+            idx = g.getKey();
+            z = idx / wh;
+            idx -= z * wh;
+            c.accept(idx % getWidth(), idx / getWidth(), z, g.getValue());
+        }
+
+        return this;
+    }
+
     @Override
     public void empty(T b) {
         data.clear();
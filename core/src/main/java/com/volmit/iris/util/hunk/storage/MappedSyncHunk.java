@@ -20,6 +20,8 @@ package com.volmit.iris.util.hunk.storage;
 
 import com.volmit.iris.util.function.Consumer4;
 import com.volmit.iris.util.function.Consumer4IO;
+import com.volmit.iris.util.function.IntXYZObjConsumer;
+import com.volmit.iris.util.function.IntXYZObjConsumerIO;
 import com.volmit.iris.util.hunk.Hunk;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -101,6 +103,40 @@ public class MappedSyncHunk<T> extends StorageHunk<T> implements Hunk<T> {
         }
     }
 
+    @Override
+    public synchronized Hunk<T> forEachXYZ(IntXYZObjConsumer<T> c) {
+        synchronized (data) {
+            int idx, z;
+            int wh = getWidth() * getHeight();
+
+            for (Map.Entry<Integer, T> g : data.entrySet()) {
+                idx = g.getKey();
+                z = idx / wh;
+                idx -= z * wh;
+                c.accept(idx % getWidth(), idx / getWidth(), z, g.getValue());
+            }
+
+            return this;
+        }
+    }
+
+    @Override
+    public synchronized Hunk<T> forEachXYZIO(IntXYZObjConsumerIO<T> c) throws IOException {
+        synchronized (data) {
+            int idx, z;
+            int wh = getWidth() * getHeight();
+
+            for (Map.Entry<Integer, T> g : data.entrySet()) {
+                idx = g.getKey();
+                z = idx / wh;
+                idx -= z * wh;
+                c.accept(idx % getWidth(), idx / getWidth(), z, g.getValue());
+            }
+
+            return this;
+        }
+    }
+
     @Override
     public void empty(T b) {
         synchronized (data) {
@@ -20,6 +20,8 @@ package com.volmit.iris.util.hunk.storage;
 
 import com.volmit.iris.util.function.Consumer4;
 import com.volmit.iris.util.function.Consumer4IO;
+import com.volmit.iris.util.function.IntXYZObjConsumer;
+import com.volmit.iris.util.function.IntXYZObjConsumerIO;
 import com.volmit.iris.util.hunk.Hunk;
 import com.volmit.iris.util.hunk.bits.DataContainer;
 import com.volmit.iris.util.hunk.bits.Writable;
@@ -81,6 +83,63 @@ public class PaletteHunk<T> extends StorageHunk<T> implements Hunk<T> {
         return this;
     }
 
+    @Override
+    public synchronized Hunk<T> forEachXYZ(IntXYZObjConsumer<T> c) {
+        int w = getWidth();
+        int h = getHeight();
+        int d = getDepth();
+        int idx = 0;
+
+        for (int k = 0; k < d; k++) {
+            for (int j = 0; j < h; j++) {
+                for (int i = 0; i < w; i++) {
+                    T t = data.get(idx++);
+                    if (t != null) {
+                        c.accept(i, j, k, t);
+                    }
+                }
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized Hunk<T> forEachXYZIO(IntXYZObjConsumerIO<T> c) throws IOException {
+        for (int i = 0; i < getWidth(); i++) {
+            for (int j = 0; j < getHeight(); j++) {
+                for (int k = 0; k < getDepth(); k++) {
+                    T t = getRaw(i, j, k);
+                    if (t != null) {
+                        c.accept(i, j, k, t);
+                    }
+                }
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public void setColumn(int x, int z, int yFrom, int yTo, T t) {
+        int from = Math.max(yFrom, 0);
+        int to = Math.min(yTo, getHeight());
+
+        for (int y = from, i = index(x, from, z); y < to; y++, i += getWidth()) {
+            data.set(i, t);
+        }
+    }
+
+    @Override
+    public void setColumn(int x, int z, int yFrom, T[] values, int length) {
+        int from = Math.max(0, -yFrom);
+        int to = Math.min(length, getHeight() - yFrom);
+
+        for (int v = from, i = index(x, yFrom + from, z); v < to; v++, i += getWidth()) {
+            if (values[v] != null) {
+                data.set(i, values[v]);
+            }
+        }
+    }
+
     @Override
     public void setRaw(int x, int y, int z, T t) {
         data.set(index(x, y, z), t);
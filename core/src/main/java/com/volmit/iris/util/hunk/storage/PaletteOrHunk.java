@@ -20,6 +20,8 @@ package com.volmit.iris.util.hunk.storage;
 
 import com.volmit.iris.util.function.Consumer4;
 import com.volmit.iris.util.function.Consumer4IO;
+import com.volmit.iris.util.function.IntXYZObjConsumer;
+import com.volmit.iris.util.function.IntXYZObjConsumerIO;
 import com.volmit.iris.util.hunk.Hunk;
 import com.volmit.iris.util.hunk.bits.DataContainer;
 import com.volmit.iris.util.hunk.bits.Writable;
@@ -59,6 +61,16 @@ public abstract class PaletteOrHunk<T> extends StorageHunk<T> implements Hunk<T>
         return hunk.getRaw(x, y, z);
     }
 
+    @Override
+    public void setColumn(int x, int z, int yFrom, int yTo, T t) {
+        hunk.setColumn(x, z, yFrom, yTo, t);
+    }
+
+    @Override
+    public void setColumn(int x, int z, int yFrom, T[] values, int length) {
+        hunk.setColumn(x, z, yFrom, values, length);
+    }
+
     public int getEntryCount() {
         return hunk.getEntryCount();
     }
@@ -83,6 +95,18 @@ public abstract class PaletteOrHunk<T> extends StorageHunk<T> implements Hunk<T>
         return this;
     }
 
+    @Override
+    public synchronized Hunk<T> forEachXYZ(IntXYZObjConsumer<T> c) {
+        hunk.forEachXYZ(c);
+        return this;
+    }
+
+    @Override
+    public synchronized Hunk<T> forEachXYZIO(IntXYZObjConsumerIO<T> c) throws IOException {
+        hunk.forEachXYZIO(c);
+        return this;
+    }
+
     @Override
     public void empty(T b) {
         hunk.empty(b);
@@ -0,0 +1,92 @@
+/*
+ * Iris is a World Generator for Minecraft Bukkit Servers
+ * Copyright (c) 2022 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.volmit.iris.util.hunk.view;
+
+import com.volmit.iris.util.hunk.Hunk;
+
+import java.util.Arrays;
+
+/**
+ * Reads from the source hunk and records writes instead of applying them. {@link #flush()} replays the writes
+ * onto the source in the order they were made, so several buffers filled in parallel can be merged in a fixed order.
+ * A buffer is not thread safe and does not see its own writes.
+ */
+public class BufferedHunkView<T> implements Hunk<T> {
+    private final Hunk<T> src;
+    private int[] positions;
+    private Object[] values;
+    private int size;
+
+    public BufferedHunkView(Hunk<T> src) {
+        this.src = src;
+        this.positions = new int[48];
+        this.values = new Object[16];
+    }
+
+    @Override
+    public void setRaw(int x, int y, int z, T t) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+            positions = Arrays.copyOf(positions, size * 6);
+        }
+
+        positions[size * 3] = x;
+        positions[size * 3 + 1] = y;
+        positions[size * 3 + 2] = z;
+        values[size++] = t;
+    }
+
+    @Override
+    public T getRaw(int x, int y, int z) {
+        return src.getRaw(x, y, z);
+    }
+
+    /**
+     * Apply every buffered write to the source and clear the buffer
+     */
+    @SuppressWarnings("unchecked")
+    public void flush() {
+        for (int i = 0; i < size; i++) {
+            src.setRaw(positions[i * 3], positions[i * 3 + 1], positions[i * 3 + 2], (T) values[i]);
+            values[i] = null;
+        }
+
+        size = 0;
+    }
+
+    @Override
+    public int getWidth() {
+        return src.getWidth();
+    }
+
+    @Override
+    public int getHeight() {
+        return src.getHeight();
+    }
+
+    @Override
+    public int getDepth() {
+        return src.getDepth();
+    }
+
+    @Override
+    public Hunk<T> getSource() {
+        return src;
+    }
+}
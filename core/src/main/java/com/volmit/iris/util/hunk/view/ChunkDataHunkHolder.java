@@ -18,54 +18,184 @@
 
 package com.volmit.iris.util.hunk.view;
 
-import com.volmit.iris.util.hunk.storage.AtomicHunk;
+import com.volmit.iris.core.nms.INMS;
+import com.volmit.iris.engine.data.chunk.TerrainChunk;
+import com.volmit.iris.util.data.IrisBlockData;
+import com.volmit.iris.util.hunk.Hunk;
+import com.volmit.iris.util.hunk.storage.StorageHunk;
 import org.bukkit.Material;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.generator.ChunkGenerator.ChunkData;
 
-@SuppressWarnings("ClassCanBeRecord")
-public class ChunkDataHunkHolder extends AtomicHunk<BlockData> {
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Collects the generated blocks of a chunk as 16x16x16 sections of palette ids so they can be
+ * handed to the nms binding in one go. Sections are only allocated once something is written into them.
+ * Concurrent writes into different blocks are safe, the palette is only locked when it grows.
+ * Custom block wrappers are stored as their base block, the same way the terrain chunk unwraps them.
+ */
+public class ChunkDataHunkHolder extends StorageHunk<BlockData> implements Hunk<BlockData> {
     private static final BlockData AIR = Material.AIR.createBlockData();
     private final ChunkData chunk;
+    private final AtomicReferenceArray<char[]> sections;
+    private final Map<BlockData, Character> ids;
+    private volatile BlockData[] palette;
 
     public ChunkDataHunkHolder(ChunkData chunk) {
         super(16, chunk.getMaxHeight() - chunk.getMinHeight(), 16);
         this.chunk = chunk;
+        this.sections = new AtomicReferenceArray<>((getHeight() + 15) >> 4);
+        this.ids = new ConcurrentHashMap<>();
+        this.palette = new BlockData[1];
     }
 
     @Override
-    public int getWidth() {
-        return 16;
+    public boolean isAtomic() {
+        return true;
     }
 
     @Override
-    public int getDepth() {
-        return 16;
+    public void setRaw(int x, int y, int z, BlockData t) {
+        if (t == null) {
+            char[] section = sections.get(y >> 4);
+
+            if (section != null) {
+                section[index(x, y, z)] = 0;
+            }
+
+            return;
+        }
+
+        char id = id(t);
+        section(y >> 4)[index(x, y, z)] = id;
+    }
+
+    @Override
+    public void setColumn(int x, int z, int yFrom, int yTo, BlockData t) {
+        int from = Math.max(yFrom, 0);
+        int to = Math.min(yTo, getHeight());
+
+        if (t == null) {
+            super.setColumn(x, z, from, to, null);
+            return;
+        }
+
+        char id = id(t);
+
+        for (int y = from; y < to; y++) {
+            section(y >> 4)[index(x, y, z)] = id;
+        }
     }
 
     @Override
-    public int getHeight() {
-        return chunk.getMaxHeight() - chunk.getMinHeight();
+    public void setColumn(int x, int z, int yFrom, BlockData[] values, int length) {
+        int from = Math.max(0, -yFrom);
+        int to = Math.min(length, getHeight() - yFrom);
+        BlockData last = null;
+        char id = 0;
+
+        for (int i = from; i < to; i++) {
+            BlockData b = values[i];
+
+            if (b == null) {
+                continue;
+            }
+
+            if (b != last) {
+                id = id(b);
+                last = b;
+            }
+
+            int y = yFrom + i;
+            section(y >> 4)[index(x, y, z)] = id;
+        }
     }
 
     @Override
     public BlockData getRaw(int x, int y, int z) {
-        BlockData b = super.getRaw(x, y, z);
+        char[] section = sections.get(y >> 4);
+
+        if (section == null) {
+            return AIR;
+        }
 
-        return b != null ? b : AIR;
+        char id = section[index(x, y, z)];
+        return id == 0 ? AIR : palette[id];
     }
 
     public void apply() {
-        for (int i = 0; i < getHeight(); i++) {
-            for (int j = 0; j < getWidth(); j++) {
-                for (int k = 0; k < getDepth(); k++) {
-                    BlockData b = super.getRaw(j, i, k);
-
-                    if (b != null) {
-                        chunk.setBlock(j, i + chunk.getMinHeight(), k, b);
-                    }
+        BlockData[] p = palette;
+        char[][] packed = new char[sections.length()][];
+
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = sections.get(i);
+        }
+
+        ChunkData raw = chunk instanceof TerrainChunk t ? t.getRaw() : chunk;
+        if (INMS.get().setSections(raw, p, packed)) {
+            return;
+        }
+
+        for (int s = 0; s < packed.length; s++) {
+            char[] section = packed[s];
+
+            if (section == null) {
+                continue;
+            }
+
+            for (int i = 0; i < section.length; i++) {
+                if (section[i] != 0) {
+                    chunk.setBlock(i & 15, (s << 4) + (i >> 8) + chunk.getMinHeight(), (i >> 4) & 15, p[section[i]]);
                 }
             }
         }
     }
+
+    private char[] section(int s) {
+        char[] section = sections.get(s);
+
+        if (section == null) {
+            section = new char[4096];
+
+            if (!sections.compareAndSet(s, null, section)) {
+                return sections.get(s);
+            }
+        }
+
+        return section;
+    }
+
+    private char id(BlockData b) {
+        if (b instanceof IrisBlockData d) {
+            b = d.getBase();
+        }
+
+        Character id = ids.get(b);
+
+        if (id != null) {
+            return id;
+        }
+
+        synchronized (ids) {
+            id = ids.get(b);
+
+            if (id == null) {
+                BlockData[] p = Arrays.copyOf(palette, palette.length + 1);
+                id = (char) (p.length - 1);
+                p[id] = b;
+                palette = p;
+                ids.put(b, id);
+            }
+
+            return id;
+        }
+    }
+
+    private static int index(int x, int y, int z) {
+        return ((y & 15) << 8) | (z << 4) | x;
+    }
 }
@@ -57,6 +57,23 @@ public class ChunkDataHunkView implements Hunk<BlockData> {
         chunk.setRegion(x1, y1 + chunk.getMinHeight(), z1, x2, y2 + chunk.getMinHeight(), z2, t);
     }
 
+    @Override
+    public void setColumn(int x, int z, int yFrom, int yTo, BlockData t) {
+        if (t == null) {
+            return;
+        }
+
+        if (t instanceof IrisBlockData d) {
+            t = d.getBase();
+        }
+
+        int from = Math.max(yFrom, 0);
+        int to = Math.min(yTo, getHeight());
+
+        if (from < to) {
+            chunk.setRegion(x, from + chunk.getMinHeight(), z, x + 1, to + chunk.getMinHeight(), z + 1, t);
+        }
+    }
 
     public BlockData get(int x, int y, int z) {
         return getRaw(x, y, z);
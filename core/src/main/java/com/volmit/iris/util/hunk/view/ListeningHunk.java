@@ -37,6 +37,26 @@ public class ListeningHunk<T> implements Hunk<T> {
         src.setRaw(x, y, z, t);
     }
 
+    @Override
+    public void setColumn(int x, int z, int yFrom, int yTo, T t) {
+        for (int y = Math.max(yFrom, 0); y < Math.min(yTo, getHeight()); y++) {
+            listener.accept(x, y, z, t);
+        }
+
+        src.setColumn(x, z, yFrom, yTo, t);
+    }
+
+    @Override
+    public void setColumn(int x, int z, int yFrom, T[] values, int length) {
+        for (int i = Math.max(0, -yFrom); i < Math.min(length, getHeight() - yFrom); i++) {
+            if (values[i] != null) {
+                listener.accept(x, yFrom + i, z, values[i]);
+            }
+        }
+
+        src.setColumn(x, z, yFrom, values, length);
+    }
+
     @Override
     public T getRaw(int x, int y, int z) {
         return src.getRaw(x, y, z);
@@ -34,7 +34,7 @@ import com.volmit.iris.util.documentation.ChunkCoordinates;
 import com.volmit.iris.util.documentation.RegionCoordinates;
 import com.volmit.iris.util.format.C;
 import com.volmit.iris.util.format.Form;
-import com.volmit.iris.util.function.Consumer4;
+import com.volmit.iris.util.function.IntXYZObjConsumer;
 import com.volmit.iris.util.math.M;
 import com.volmit.iris.util.matter.Matter;
 import com.volmit.iris.util.matter.MatterSlice;
@@ -223,7 +223,7 @@ public class Mantle {
      * @param <T>      the type of data to iterate
      */
     @ChunkCoordinates
-    public <T> void iterateChunk(int x, int z, Class<T> type, Consumer4<Integer, Integer, Integer, T> iterator) {
+    public <T> void iterateChunk(int x, int z, Class<T> type, IntXYZObjConsumer<T> iterator) {
         /*if(!hasTectonicPlate(x >> 5, z >> 5)) {
             return;
         }*/
@@ -343,7 +343,7 @@ public class Mantle {
 
     public void set(int x, int y, int z, Matter matter) {
         for (MatterSlice<?> i : matter.getSliceMap().values()) {
-            i.iterate((mx, my, mz, v) -> set(mx + x, my + y, mz + z, v));
+            i.forEachXYZ(i.getIdeal3DParallelism(), (mx, my, mz, v) -> set(mx + x, my + y, mz + z, v));
         }
     }
 
@@ -402,26 +402,40 @@ public class Mantle {
     @Getter
     private final KList<Long> toUnload = new KList<>();
 
+    @Getter
+    private final AtomicLong memoryUsage = new AtomicLong(0);
+
+    /**
+     * Estimate the heap retained by all loaded tectonic plates
+     *
+     * @return the estimated size in bytes
+     */
+    public long getSizeEstimate() {
+        long size = 0;
+
+        for (TectonicPlate i : loadedRegions.values()) {
+            size += i.getSizeEstimate();
+        }
+
+        memoryUsage.set(size);
+        return size;
+    }
+
     /**
      * Save & unload regions that have not been used for more than the
-     * specified amount of milliseconds
+     * specified amount of milliseconds. If the loaded regions still retain more
+     * than the memory budget, the coldest and largest regions are unloaded as well.
      *
      * @param baseIdleDuration the duration
+     * @param memoryBudget     the amount of bytes the loaded regions may retain
      */
-    public synchronized void trim(long baseIdleDuration, int tectonicLimit) {
+    public synchronized void trim(long baseIdleDuration, long memoryBudget) {
         if (closed.get()) {
             throw new RuntimeException("The Mantle is closed");
         }
 
         adjustedIdleDuration.set(baseIdleDuration);
 
-        if (loadedRegions != null) {
-            if (loadedRegions.size() > tectonicLimit) {
-                // todo update this correctly and maybe do something when its above a 100%
-                adjustedIdleDuration.set(Math.max(adjustedIdleDuration.get() - (1000 * (((loadedRegions.size() - tectonicLimit) / (double) tectonicLimit) * 100) * 0.4), 4000));
-            }
-        }
-
         ioTrim.set(true);
         unloadLock.lock();
         try {
@@ -440,6 +454,8 @@ public class Mantle {
                         });
                     }
                 }
+
+                trimToBudget(memoryBudget);
             }
 
         } catch (Throwable e) {
@@ -450,6 +466,50 @@ public class Mantle {
         }
     }
 
+    private void trimToBudget(long memoryBudget) {
+        long now = M.ms();
+        long total = 0;
+        KList<Long> candidates = new KList<>();
+        KMap<Long, Double> scores = new KMap<>();
+        Set<Long> queued = new HashSet<>(toUnload);
+
+        for (Map.Entry<Long, TectonicPlate> i : loadedRegions.entrySet()) {
+            long size = i.getValue().getSizeEstimate();
+            total += size;
+
+            if (queued.contains(i.getKey())) {
+                continue;
+            }
+
+            Long lastUseTime = lastUse.get(i.getKey());
+            double idle = lastUseTime == null ? 1 : Math.max(now - lastUseTime, 1);
+            scores.put(i.getKey(), size * idle);
+            candidates.add(i.getKey());
+        }
+
+        memoryUsage.set(total);
+        if (total <= memoryBudget) {
+            return;
+        }
+
+        candidates.sort((a, b) -> Double.compare(scores.get(b), scores.get(a)));
+        for (Long i : candidates) {
+            if (total <= memoryBudget) {
+                break;
+            }
+
+            TectonicPlate plate = loadedRegions.get(i);
+            if (plate == null) {
+                continue;
+            }
+
+            total -= plate.getSizeEstimate();
+            toUnload.add(i);
+            Iris.debug("Tectonic Region added to unload (over memory budget by " + Form.memSize(total - memoryBudget, 1) + ")");
+            IrisEngineSVC.instance.trimActiveAlive.reset();
+        }
+    }
+
     public synchronized int unloadTectonicPlate(int tectonicLimit) {
         AtomicInteger i = new AtomicInteger();
         unloadLock.lock();
@@ -555,6 +615,7 @@ public class Mantle {
 
         if (p != null) {
             lastUse.put(k, M.ms());
+            p.markDirty();
             return CompletableFuture.completedFuture(p);
         }
 
@@ -563,6 +624,7 @@ public class Mantle {
             TectonicPlate region = loadedRegions.get(k);
 
             if (region != null) {
+                region.markDirty();
                 return region;
             }
 
@@ -628,7 +690,7 @@ public class Mantle {
             return;
         }
 
-        slice.iterateSync((xx, yy, zz, t) -> set(x + xx, y + yy, z + zz, t));
+        slice.forEachXYZ((xx, yy, zz, t) -> set(x + xx, y + yy, z + zz, t));
     }
 
     public boolean isLoaded(Chunk c) {
@@ -20,7 +20,7 @@ package com.volmit.iris.util.mantle;
 
 import com.volmit.iris.Iris;
 import com.volmit.iris.util.documentation.ChunkCoordinates;
-import com.volmit.iris.util.function.Consumer4;
+import com.volmit.iris.util.function.IntXYZObjConsumer;
 import com.volmit.iris.util.matter.IrisMatter;
 import com.volmit.iris.util.matter.Matter;
 import com.volmit.iris.util.matter.MatterSlice;
@@ -96,6 +96,30 @@ public class MantleChunk {
         }
     }
 
+    /**
+     * Raise a flag if it is lowered currently, holding this chunk's lock while the runnable executes.
+     * Unlike {@link #raiseFlag(MantleFlag, Runnable)} the flag is only raised once the runnable finished,
+     * so any other thread raising the same flag will block until the work is done instead of skipping it.
+     * This lets chunks with overlapping mantle radii plan concurrently without a global lock.
+     *
+     * @param flag the flag to raise
+     * @param r    the runnable to fire if the flag was lowered
+     */
+    public void raiseFlagSuspend(MantleFlag flag, Runnable r) {
+        if (isFlagged(flag)) {
+            return;
+        }
+
+        synchronized (this) {
+            if (isFlagged(flag)) {
+                return;
+            }
+
+            r.run();
+            flag(flag, true);
+        }
+    }
+
     public boolean isFlagged(MantleFlag flag) {
         return flags.get(flag.ordinal()) == 1;
     }
@@ -122,6 +146,15 @@ public class MantleChunk {
         return sections.get(section);
     }
 
+    /**
+     * Get the amount of sections this chunk can hold
+     *
+     * @return the section count (worldHeight >> 4)
+     */
+    public int getSectionHeight() {
+        return sections.length();
+    }
+
     /**
      * Clear all matter from this chunk
      */
@@ -153,12 +186,34 @@ public class MantleChunk {
 
         if (matter == null) {
             matter = new IrisMatter(16, 16, 16);
-            sections.set(section, matter);
+
+            if (!sections.compareAndSet(section, null, matter)) {
+                return get(section);
+            }
         }
 
         return matter;
     }
 
+    /**
+     * Estimate the heap retained by this chunk and all of its sections
+     *
+     * @return the estimated size in bytes
+     */
+    public long getSizeEstimate() {
+        long size = 64 + (sections.length() * 8L) + (flags.length() * 4L);
+
+        for (int i = 0; i < sections.length(); i++) {
+            Matter m = sections.get(i);
+
+            if (m != null) {
+                size += m.getSizeEstimate();
+            }
+        }
+
+        return size;
+    }
+
     /**
      * Write this chunk to a data stream
      *
@@ -202,7 +257,7 @@ public class MantleChunk {
         }
     }
 
-    public <T> void iterate(Class<T> type, Consumer4<Integer, Integer, Integer, T> iterator) {
+    public <T> void iterate(Class<T> type, IntXYZObjConsumer<T> iterator) {
         for (int i = 0; i < sections.length(); i++) {
             int bs = (i << 4);
             Matter matter = get(i);
@@ -211,7 +266,7 @@ public class MantleChunk {
                 MatterSlice<T> t = matter.getSlice(type);
 
                 if (t != null) {
-                    t.iterateSync((a, b, c, f) -> iterator.accept(a, b + bs, c, f));
+                    t.forEachXYZ((a, b, c, f) -> iterator.accept(a, b + bs, c, f));
                 }
             }
         }
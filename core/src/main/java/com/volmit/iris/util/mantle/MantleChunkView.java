@@ -0,0 +1,125 @@
+/*
+ * Iris is a World Generator for Minecraft Bukkit Servers
+ * Copyright (c) 2022 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.volmit.iris.util.mantle;
+
+import com.volmit.iris.util.documentation.ChunkCoordinates;
+import com.volmit.iris.util.matter.Matter;
+import com.volmit.iris.util.matter.MatterCavern;
+import com.volmit.iris.util.matter.MatterSlice;
+import lombok.Getter;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A view pinned to a single mantle chunk. The plate and chunk are resolved once when the view is created
+ * and every slice is resolved once per section, so reads and writes inside the chunk skip the plate lookup,
+ * the plate lock and the lastUse bookkeeping of {@link Mantle#get(int, int, int, Class)}.
+ * Coordinates outside of the chunk fall back to the mantle.
+ * <p>
+ * A view is cheap to create and is not thread safe, use one per thread and drop it when the stage is done.
+ */
+public class MantleChunkView {
+    private final Mantle mantle;
+    @Getter
+    private final MantleChunk chunk;
+    @Getter
+    private final int x;
+    @Getter
+    private final int z;
+    private final int height;
+    private final Map<Class<?>, MatterSlice<?>[]> slices = new IdentityHashMap<>(4);
+
+    @ChunkCoordinates
+    public MantleChunkView(Mantle mantle, int x, int z) {
+        this.mantle = mantle;
+        this.chunk = mantle.getChunk(x, z);
+        this.x = x;
+        this.z = z;
+        this.height = chunk.getSectionHeight() << 4;
+    }
+
+    /**
+     * Get data from this chunk
+     *
+     * @param x the block x inside of the chunk, outside of 0-15 reads from the mantle
+     * @param y the block y
+     * @param z the block z inside of the chunk, outside of 0-15 reads from the mantle
+     * @param t the data type
+     * @return the data or null
+     */
+    public <T> T get(int x, int y, int z, Class<T> t) {
+        if (y < 0 || y >= height) {
+            return null;
+        }
+
+        if (((x | z) & ~15) != 0) {
+            return mantle.get((this.x << 4) + x, y, (this.z << 4) + z, t);
+        }
+
+        MatterSlice<T> slice = slice(t, y >> 4, false);
+        return slice == null ? null : slice.get(x, y & 15, z);
+    }
+
+    /**
+     * Set data in this chunk
+     *
+     * @param x the block x inside of the chunk, outside of 0-15 writes to the mantle
+     * @param y the block y
+     * @param z the block z inside of the chunk, outside of 0-15 writes to the mantle
+     * @param t the data, its class picks the slice like {@link Mantle#set(int, int, int, Object)}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void set(int x, int y, int z, T t) {
+        if (y < 0 || y >= height) {
+            return;
+        }
+
+        if (((x | z) & ~15) != 0) {
+            mantle.set((this.x << 4) + x, y, (this.z << 4) + z, t);
+            return;
+        }
+
+        Matter matter = chunk.getOrCreate(y >> 4);
+        ((MatterSlice<T>) slice(matter.getClass(t), y >> 4, true)).set(x, y & 15, z, t);
+    }
+
+    public boolean isCarved(int x, int y, int z) {
+        return get(x, y, z, MatterCavern.class) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> MatterSlice<T> slice(Class<?> t, int section, boolean create) {
+        MatterSlice<?>[] s = slices.computeIfAbsent(t, (k) -> new MatterSlice<?>[chunk.getSectionHeight()]);
+        MatterSlice<?> slice = s[section];
+
+        if (slice == null) {
+            Matter matter = create ? chunk.getOrCreate(section) : chunk.get(section);
+
+            if (matter == null) {
+                return null;
+            }
+
+            slice = create ? matter.slice(t) : matter.getSlice(t);
+            s[section] = slice;
+        }
+
+        return (MatterSlice<T>) slice;
+    }
+}
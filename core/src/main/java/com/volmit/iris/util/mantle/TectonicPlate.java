@@ -49,6 +49,8 @@ public class TectonicPlate {
 
     @Getter
     private final int z;
+    private volatile boolean dirty;
+    private volatile long sizeEstimate;
 
     /**
      * Create a new tectonic plate
@@ -60,6 +62,7 @@ public class TectonicPlate {
         this.chunks = new AtomicReferenceArray<>(1024);
         this.x = x;
         this.z = z;
+        this.dirty = true;
     }
 
     /**
@@ -154,12 +157,49 @@ public class TectonicPlate {
 
         if (chunk == null) {
             chunk = new MantleChunk(sectionHeight, x & 31, z & 31);
-            chunks.set(index(x, z), chunk);
+
+            if (!chunks.compareAndSet(index(x, z), null, chunk)) {
+                return get(x, z);
+            }
         }
 
         return chunk;
     }
 
+    /**
+     * Mark this plate as possibly changed so the next size estimate is recomputed
+     */
+    public void markDirty() {
+        if (!dirty) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Estimate the heap retained by this plate. The estimate is only recomputed
+     * if the plate has been accessed since the last estimate.
+     *
+     * @return the estimated size in bytes
+     */
+    public long getSizeEstimate() {
+        if (dirty) {
+            dirty = false;
+            long size = 64 + (chunks.length() * 8L);
+
+            for (int i = 0; i < chunks.length(); i++) {
+                MantleChunk chunk = chunks.get(i);
+
+                if (chunk != null) {
+                    size += chunk.getSizeEstimate();
+                }
+            }
+
+            sizeEstimate = size;
+        }
+
+        return sizeEstimate;
+    }
+
     @ChunkCoordinates
     private int index(int x, int z) {
         return Cache.to1D(x, z, 0, 32, 32);
@@ -0,0 +1,150 @@
+/*
+ * Iris is a World Generator for Minecraft Bukkit Servers
+ * Copyright (c) 2022 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.volmit.iris.util.math;
+
+import org.bukkit.Material;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.util.BlockVector;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * One of the 24 right angle rotations of the block grid as an integer matrix. Every orientation also
+ * remembers how block states turn under it, so rotating an object costs integer math and lookups only.
+ */
+public final class Orientation {
+    private static final BlockData NONE = Material.STRUCTURE_VOID.createBlockData();
+    private static final Orientation[] TABLE = new Orientation[19683];
+    public static final int COUNT = 24;
+    public static final Orientation IDENTITY;
+
+    static {
+        int[][] permutations = {{0, 1, 2}, {0, 2, 1}, {1, 0, 2}, {1, 2, 0}, {2, 0, 1}, {2, 1, 0}};
+        int id = 0;
+
+        for (int[] p : permutations) {
+            for (int s = 0; s < 8; s++) {
+                int[] m = new int[9];
+
+                for (int r = 0; r < 3; r++) {
+                    m[r * 3 + p[r]] = (s >> r & 1) == 0 ? 1 : -1;
+                }
+
+                if (determinant(m) == 1) {
+                    TABLE[key(m)] = new Orientation(id++, m);
+                }
+            }
+        }
+
+        IDENTITY = TABLE[key(new int[]{1, 0, 0, 0, 1, 0, 0, 0, 1})];
+    }
+
+    private final int id;
+    private final int[] m;
+    private final Map<BlockData, BlockData> blocks;
+
+    private Orientation(int id, int[] m) {
+        this.id = id;
+        this.m = m;
+        this.blocks = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Find the orientation for a row major 3x3 matrix
+     *
+     * @param m the matrix
+     * @return the orientation or null if the matrix is not a right angle rotation
+     */
+    public static Orientation of(int[] m) {
+        for (int i : m) {
+            if (i < -1 || i > 1) {
+                return null;
+            }
+        }
+
+        return TABLE[key(m)];
+    }
+
+    /**
+     * @return a dense id between 0 and {@link #COUNT}
+     */
+    public int getId() {
+        return id;
+    }
+
+    public boolean isIdentity() {
+        return this == IDENTITY;
+    }
+
+    public int x(int x, int y, int z) {
+        return m[0] * x + m[1] * y + m[2] * z;
+    }
+
+    public int y(int x, int y, int z) {
+        return m[3] * x + m[4] * y + m[5] * z;
+    }
+
+    public int z(int x, int y, int z) {
+        return m[6] * x + m[7] * y + m[8] * z;
+    }
+
+    public BlockVector apply(BlockVector v) {
+        double x = v.getX();
+        double y = v.getY();
+        double z = v.getZ();
+        return new BlockVector(m[0] * x + m[1] * y + m[2] * z, m[3] * x + m[4] * y + m[5] * z, m[6] * x + m[7] * y + m[8] * z);
+    }
+
+    /**
+     * Rotate a block state through the memo table of this orientation. Misses are resolved with the
+     * given function (which may mutate its argument and return null) and remembered.
+     *
+     * @param data   the block state
+     * @param rotate resolves a miss
+     * @return a copy of the rotated state or null if the block cannot exist in this orientation
+     */
+    public BlockData rotate(BlockData data, UnaryOperator<BlockData> rotate) {
+        BlockData r = blocks.get(data);
+
+        if (r == null) {
+            BlockData key = data.clone();
+            r = rotate.apply(data.clone());
+            r = r == null ? NONE : r;
+            blocks.put(key, r);
+        }
+
+        return r == NONE ? null : r.clone();
+    }
+
+    private static int determinant(int[] m) {
+        return m[0] * (m[4] * m[8] - m[5] * m[7]) - m[1] * (m[3] * m[8] - m[5] * m[6]) + m[2] * (m[3] * m[7] - m[4] * m[6]);
+    }
+
+    private static int key(int[] m) {
+        int k = 0;
+
+        for (int i : m) {
+            k = k * 3 + i + 1;
+        }
+
+        return k;
+    }
+}
@@ -27,6 +27,7 @@ import lombok.Getter;
 
 public class IrisMatter extends IrisRegistrant implements Matter {
     protected static final KMap<Class<?>, MatterSlice<?>> slicers = buildSlicers();
+    private static final KMap<String, Class<?>> sliceTypes = new KMap<>();
 
     @Getter
     private final MatterHeader header;
@@ -65,6 +66,24 @@ public class IrisMatter extends IrisRegistrant implements Matter {
         return c;
     }
 
+    /**
+     * Resolve a serialized slice type name, every name is only looked up once
+     *
+     * @param name the canonical class name written with the slice
+     * @return the slice type
+     * @throws ClassNotFoundException if no such class exists
+     */
+    public static Class<?> getSliceType(String name) throws ClassNotFoundException {
+        Class<?> type = sliceTypes.get(name);
+
+        if (type == null) {
+            type = Class.forName(name);
+            sliceTypes.put(name, type);
+        }
+
+        return type;
+    }
+
     @Override
     public <T> MatterSlice<T> createSlice(Class<T> type, Matter m) {
         MatterSlice<?> slice = slicers.get(type);
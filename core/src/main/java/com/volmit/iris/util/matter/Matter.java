@@ -141,7 +141,7 @@ public interface Matter {
             String cn = din.readUTF();
             Iris.addPanic("read.matter.slice.class", cn);
             try {
-                Class<?> type = Class.forName(cn);
+                Class<?> type = IrisMatter.getSliceType(cn);
                 MatterSlice<?> slice = matter.createSlice(type, matter);
                 slice.read(din);
                 matter.putSlice(type, slice);
@@ -154,6 +154,21 @@ public interface Matter {
         return matter;
     }
 
+    /**
+     * Estimate the heap retained by this matter and all of its slices
+     *
+     * @return the estimated size in bytes
+     */
+    default long getSizeEstimate() {
+        long size = 64;
+
+        for (MatterSlice<?> i : getSliceMap().values()) {
+            size += i.getSizeEstimate();
+        }
+
+        return size;
+    }
+
     default Matter copy() {
         Matter m = new IrisMatter(getWidth(), getHeight(), getDepth());
         getSliceMap().forEach((k, v) -> m.slice(k).forceInject(v));
@@ -306,7 +321,11 @@ public interface Matter {
                 return null;
             }
 
-            putSlice(c, slice);
+            MatterSlice<T> existing = (MatterSlice<T>) getSliceMap().putIfAbsent(c, slice);
+
+            if (existing != null) {
+                return existing;
+            }
         }
 
         return slice;
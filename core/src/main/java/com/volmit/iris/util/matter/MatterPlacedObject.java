@@ -0,0 +1,41 @@
+/*
+ * Iris is a World Generator for Minecraft Bukkit Servers
+ * Copyright (c) 2022 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.volmit.iris.util.matter;
+
+import lombok.Data;
+
+/**
+ * Marks a block as part of a placed object. One instance is shared by every block of a placement,
+ * so the section palettes only hold a single entry per placed object.
+ */
+@Data
+public class MatterPlacedObject {
+    private final String object;
+    private final int id;
+
+    public static MatterPlacedObject parse(String legacy) {
+        int split = legacy.lastIndexOf('@');
+        return new MatterPlacedObject(legacy.substring(0, split), Integer.parseInt(legacy.substring(split + 1)));
+    }
+
+    @Override
+    public String toString() {
+        return object + "@" + id;
+    }
+}
@@ -23,6 +23,7 @@ import com.volmit.iris.util.data.Varint;
 import com.volmit.iris.util.data.palette.Palette;
 import com.volmit.iris.util.data.palette.PaletteType;
 import com.volmit.iris.util.hunk.Hunk;
+import com.volmit.iris.util.hunk.bits.DataBits;
 import com.volmit.iris.util.hunk.bits.DataContainer;
 import com.volmit.iris.util.hunk.bits.Writable;
 import com.volmit.iris.util.hunk.storage.PaletteOrHunk;
@@ -66,7 +67,7 @@ public interface MatterSlice<T> extends Hunk<T>, PaletteType<T>, Writable<T> {
     }
 
     default void inject(MatterSlice<T> slice) {
-        iterateSync(slice::set);
+        forEachXYZ(slice::set);
     }
 
     default void forceInject(MatterSlice<?> slice) {
@@ -106,7 +107,7 @@ public interface MatterSlice<T> extends Hunk<T>, PaletteType<T>, Writable<T> {
             return false;
         }
 
-        iterateSync((a, b, c, t) -> injector.writeMatter(w, t, a + x, b + y, c + z));
+        forEachXYZ((a, b, c, t) -> injector.writeMatter(w, t, a + x, b + y, c + z));
 
         return true;
     }
@@ -157,6 +158,27 @@ public interface MatterSlice<T> extends Hunk<T>, PaletteType<T>, Writable<T> {
         return target;
     }
 
+    /**
+     * Estimate the heap retained by this slice. Paletted slices count their packed bits and palette entries,
+     * mapped slices count their map entries. Nodes shared between slices are not counted.
+     *
+     * @return the estimated size in bytes
+     */
+    default long getSizeEstimate() {
+        if (this instanceof PaletteOrHunk f && f.isPalette()) {
+            DataContainer<?> c = f.palette();
+            DataBits bits = c.getData();
+            long longs = ((long) bits.getSize() * bits.getBits() + 63) / 64;
+            return 128 + (longs * Long.BYTES) + ((c.getPalette().size() + 1) * 32L);
+        }
+
+        if (this instanceof PaletteOrHunk f) {
+            return 128 + (f.getEntryCount() * 56L);
+        }
+
+        return 128 + (getWidth() * getHeight() * getDepth() * 8L);
+    }
+
     default void write(DataOutputStream dos) throws IOException {
         dos.writeUTF(getType().getCanonicalName());
 
@@ -168,18 +190,18 @@ public interface MatterSlice<T> extends Hunk<T>, PaletteType<T>, Writable<T> {
         int w = getWidth();
         int h = getHeight();
         MatterPalette<T> palette = new MatterPalette<T>(this);
-        iterateSync((x, y, z, b) -> palette.assign(b));
+        forEachXYZ((x, y, z, b) -> palette.assign(b));
         palette.writePalette(dos);
         dos.writeBoolean(isMapped());
 
         if (isMapped()) {
             Varint.writeUnsignedVarInt(getEntryCount(), dos);
-            iterateSyncIO((x, y, z, b) -> {
+            forEachXYZIO((x, y, z, b) -> {
                 Varint.writeUnsignedVarInt(Cache.to1D(x, y, z, w, h), dos);
                 palette.writeNode(b, dos);
             });
         } else {
-            iterateSyncIO((x, y, z, b) -> palette.writeNode(b, dos));
+            forEachXYZIO((x, y, z, b) -> palette.writeNode(b, dos));
         }
     }
 
@@ -201,7 +223,7 @@ public interface MatterSlice<T> extends Hunk<T>, PaletteType<T>, Writable<T> {
                 setRaw(pos[0], pos[1], pos[2], palette.readNode(din));
             }
         } else {
-            iterateSyncIO((x, y, z, b) -> setRaw(x, y, z, palette.readNode(din)));
+            forEachXYZIO((x, y, z, b) -> setRaw(x, y, z, palette.readNode(din)));
         }
     }
 
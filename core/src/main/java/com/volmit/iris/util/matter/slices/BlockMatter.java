@@ -18,10 +18,10 @@
 
 package com.volmit.iris.util.matter.slices;
 
+import com.volmit.iris.util.data.BlockStateRegistry;
 import com.volmit.iris.util.data.IrisBlockData;
 import com.volmit.iris.util.data.palette.Palette;
 import com.volmit.iris.util.matter.Sliced;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.data.BlockData;
@@ -58,11 +58,11 @@ public class BlockMatter extends RawMatter<BlockData> {
 
     @Override
     public void writeNode(BlockData b, DataOutputStream dos) throws IOException {
-        dos.writeUTF(b.getAsString(true));
+        dos.writeUTF(BlockStateRegistry.toString(b));
     }
 
     @Override
     public BlockData readNode(DataInputStream din) throws IOException {
-        return Bukkit.createBlockData(din.readUTF());
+        return BlockStateRegistry.parse(din.readUTF());
     }
 }
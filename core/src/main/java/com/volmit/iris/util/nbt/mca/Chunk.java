@@ -28,14 +28,20 @@ import com.volmit.iris.util.nbt.mca.palette.MCABiomeContainer;
 import com.volmit.iris.util.nbt.tag.CompoundTag;
 import com.volmit.iris.util.nbt.tag.ListTag;
 import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
 
 import java.io.*;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 
 import static com.volmit.iris.util.nbt.mca.LoadFlags.*;
 import static org.bukkit.Bukkit.getServer;
 
 public class Chunk {
     public static final int DEFAULT_DATA_VERSION = 2730;
+    private static final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
     private final KMap<Integer, Section> sections = new KMap<>();
     private boolean partial;
     private int lastMCAUpdate;
@@ -184,19 +190,45 @@ public class Chunk {
      * @throws IOException                   When something went wrong during writing.
      */
     public int serialize(RandomAccessFile raf, int xPos, int zPos) throws IOException {
+        byte[] rawData = compress(xPos, zPos);
+        raf.writeInt(rawData.length + 1); // including the byte to store the compression type
+        raf.writeByte(CompressionType.ZLIB.getID());
+        raf.write(rawData);
+        return rawData.length + 5;
+    }
+
+    /**
+     * Serializes and zlib compresses this chunk without writing it anywhere. Deflaters are pooled,
+     * so this is safe and cheap to call from many threads at once.
+     *
+     * @param xPos The x-coordinate of the chunk.
+     * @param zPos The z-coodrinate of the chunk.
+     * @return The compressed chunk data, without the length and compression type header.
+     * @throws UnsupportedOperationException When something went wrong during writing.
+     * @throws IOException                   When something went wrong during writing.
+     */
+    public byte[] compress(int xPos, int zPos) throws IOException {
         if (partial) {
             throw new UnsupportedOperationException("Partially loaded chunks cannot be serialized");
         }
-        ByteArrayOutputStream baos = new ByteArrayOutputStream(4096);
-        try (BufferedOutputStream nbtOut = new BufferedOutputStream(CompressionType.ZLIB.compress(baos))) {
-            new NBTSerializer(false).toStream(new NamedTag(null, updateHandle(xPos, zPos)), nbtOut);
+
+        Deflater deflater = deflaters.poll();
+
+        if (deflater == null) {
+            deflater = new Deflater();
         }
 
-        byte[] rawData = baos.toByteArray();
-        raf.writeInt(rawData.length + 1); // including the byte to store the compression type
-        raf.writeByte(CompressionType.ZLIB.getID());
-        raf.write(rawData);
-        return rawData.length + 5;
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream(4096);
+            try (BufferedOutputStream nbtOut = new BufferedOutputStream(new DeflaterOutputStream(baos, deflater))) {
+                new NBTSerializer(false).toStream(new NamedTag(null, updateHandle(xPos, zPos)), nbtOut);
+            }
+
+            return baos.toByteArray();
+        } finally {
+            deflater.reset();
+            deflaters.offer(deflater);
+        }
     }
 
     /**
@@ -272,6 +304,11 @@ public class Chunk {
         return section.getBlockStateAt(blockX, blockY, blockZ);
     }
 
+    public BlockData getBlockDataAt(int blockX, int blockY, int blockZ) {
+        Section section = sections.get(MCAUtil.blockToChunk(blockY));
+        return section == null ? null : section.getBlockDataAt(blockX, blockY, blockZ);
+    }
+
     /**
      * Sets a block state at a specific location.
      * The block coordinates can be absolute or relative to the region or chunk.
@@ -21,11 +21,15 @@ package com.volmit.iris.util.nbt.mca;
 import com.volmit.iris.util.collection.KList;
 import com.volmit.iris.util.math.Position2;
 import com.volmit.iris.util.nbt.tag.CompoundTag;
+import com.volmit.iris.util.parallel.BurstExecutor;
+import com.volmit.iris.util.parallel.MultiBurst;
 import com.volmit.iris.util.scheduling.J;
 
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 
 @SuppressWarnings("ALL")
@@ -154,10 +158,7 @@ public class MCAFile {
      * @throws IOException If something went wrong during serialization.
      */
     public int serialize(RandomAccessFile raf, boolean changeLastUpdate) throws IOException {
-        int globalOffset = 2;
-        int lastWritten = 0;
         int timestamp = (int) (System.currentTimeMillis() / 1000L);
-        int chunksWritten = 0;
         int chunkXOffset = MCAUtil.regionToChunk(regionX);
         int chunkZOffset = MCAUtil.regionToChunk(regionZ);
 
@@ -165,43 +166,71 @@ public class MCAFile {
             return 0;
         }
 
+        byte[][] payloads = new byte[1024][];
+        AtomicReference<Exception> error = new AtomicReference<>();
+        BurstExecutor burst = MultiBurst.burst.burst(1024);
+
+        for (int index = 0; index < 1024; index++) {
+            Chunk chunk = chunks.get(index);
+
+            if (chunk == null) {
+                continue;
+            }
+
+            int i = index;
+            burst.queue(() -> {
+                try {
+                    payloads[i] = chunk.compress(chunkXOffset + (i & 0x1F), chunkZOffset + (i >> 5));
+                } catch (IOException | RuntimeException e) {
+                    error.compareAndSet(null, e);
+                }
+            });
+        }
+
+        burst.complete();
+
+        if (error.get() instanceof IOException e) {
+            throw e;
+        } else if (error.get() instanceof RuntimeException e) {
+            throw e;
+        }
+
+        int globalOffset = 2;
+        int chunksWritten = 0;
+
+        for (byte[] i : payloads) {
+            if (i != null) {
+                globalOffset += sectors(i);
+            }
+        }
+
+        ByteBuffer region = ByteBuffer.allocate(globalOffset * 4096);
+        globalOffset = 2;
+
         for (int cx = 0; cx < 32; cx++) {
             for (int cz = 0; cz < 32; cz++) {
                 int index = getChunkIndex(cx, cz);
-                Chunk chunk = chunks.get(index);
-                if (chunk == null) {
-                    continue;
-                }
-                raf.seek(4096L * globalOffset);
-                lastWritten = chunk.serialize(raf, chunkXOffset + cx, chunkZOffset + cz);
+                byte[] payload = payloads[index];
 
-                if (lastWritten == 0) {
+                if (payload == null) {
                     continue;
                 }
 
                 chunksWritten++;
-
-                int sectors = (lastWritten >> 12) + (lastWritten % 4096 == 0 ? 0 : 1);
-
-                raf.seek(index * 4L);
-                raf.writeByte(globalOffset >>> 16);
-                raf.writeByte(globalOffset >> 8 & 0xFF);
-                raf.writeByte(globalOffset & 0xFF);
-                raf.writeByte(sectors);
-
-                // writeNodeData timestamp
-                raf.seek(index * 4L + 4096);
-                raf.writeInt(changeLastUpdate ? timestamp : chunk.getLastMCAUpdate());
-
+                int sectors = sectors(payload);
+                region.putInt(index * 4, (globalOffset << 8) | (sectors & 0xFF));
+                region.putInt(index * 4 + 4096, changeLastUpdate ? timestamp : chunks.get(index).getLastMCAUpdate());
+                region.position(globalOffset * 4096);
+                region.putInt(payload.length + 1); // including the byte to store the compression type
+                region.put(CompressionType.ZLIB.getID());
+                region.put(payload);
                 globalOffset += sectors;
             }
         }
 
-        // padding
-        if (lastWritten % 4096 != 0) {
-            raf.seek(globalOffset * 4096L - 1);
-            raf.write(0);
-        }
+        raf.seek(0);
+        raf.write(region.array());
+        raf.setLength(region.capacity());
 
         J.a(() -> {
             afterSave.forEach(i -> i.run());
@@ -210,6 +239,10 @@ public class MCAFile {
         return chunksWritten;
     }
 
+    private static int sectors(byte[] payload) {
+        return (payload.length + 5 + 4095) >> 12;
+    }
+
     /**
      * Set a specific Chunk at a specific index. The index must be in range of 0 - 1023.
      *
@@ -23,6 +23,7 @@ import com.volmit.iris.core.nms.INMS;
 import com.volmit.iris.engine.data.cache.Cache;
 import com.volmit.iris.util.collection.KMap;
 import com.volmit.iris.util.data.B;
+import com.volmit.iris.util.data.BlockStateRegistry;
 import com.volmit.iris.util.format.C;
 import com.volmit.iris.util.math.M;
 import com.volmit.iris.util.nbt.tag.CompoundTag;
@@ -34,6 +35,7 @@ import org.bukkit.block.data.BlockData;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -42,7 +44,8 @@ import java.util.function.Function;
 
 public class NBTWorld {
     private static final BlockData AIR = B.get("AIR");
-    private static final Map<BlockData, CompoundTag> blockDataCache = new KMap<>();
+    private static final Map<CompoundTag, Integer> stateIds = new KMap<>();
+    private static volatile CompoundTag[] compounds = new CompoundTag[64];
     private static final Function<BlockData, CompoundTag> BLOCK_DATA_COMPUTE = (blockData) -> {
         CompoundTag s = new CompoundTag();
         String data = blockData.getAsString(true);
@@ -94,6 +97,28 @@ public class NBTWorld {
             return B.getAir();
         }
 
+        return BlockStateRegistry.get(getStateId(tag));
+    }
+
+    /**
+     * Get the {@link BlockStateRegistry} id of a palette entry. Each distinct entry is only
+     * turned into a block state string and parsed once.
+     *
+     * @param tag the palette entry
+     * @return the state id
+     */
+    public static int getStateId(CompoundTag tag) {
+        Integer id = stateIds.get(tag);
+
+        if (id == null) {
+            id = BlockStateRegistry.getId(parse(tag));
+            stateIds.putIfAbsent(tag, id);
+        }
+
+        return id;
+    }
+
+    private static BlockData parse(CompoundTag tag) {
         StringBuilder p = new StringBuilder(tag.getString("Name"));
 
         if (tag.containsKey("Properties")) {
@@ -117,7 +142,38 @@ public class NBTWorld {
     }
 
     public static CompoundTag getCompound(BlockData bd) {
-        return blockDataCache.computeIfAbsent(bd, BLOCK_DATA_COMPUTE);
+        return getCompound(BlockStateRegistry.getId(bd));
+    }
+
+    /**
+     * Get the shared palette entry of a {@link BlockStateRegistry} id, do not modify it
+     *
+     * @param id the state id
+     * @return the palette entry
+     */
+    public static CompoundTag getCompound(int id) {
+        CompoundTag[] c = compounds;
+
+        if (id < c.length && c[id] != null) {
+            return c[id];
+        }
+
+        return computeCompound(id);
+    }
+
+    private static synchronized CompoundTag computeCompound(int id) {
+        CompoundTag[] c = compounds;
+
+        if (id >= c.length) {
+            c = Arrays.copyOf(c, Math.max(c.length << 1, id + 1));
+        }
+
+        if (c[id] == null) {
+            c[id] = BLOCK_DATA_COMPUTE.apply(BlockStateRegistry.get(id));
+        }
+
+        compounds = c;
+        return c[id];
     }
 
     private static Map<Biome, Integer> computeBiomeIDs() {
@@ -229,13 +285,8 @@ public class NBTWorld {
 
     public BlockData getBlockData(int x, int y, int z) {
         try {
-            CompoundTag tag = getChunkSection(x >> 4, y >> 4, z >> 4).getBlockStateAt(x & 15, y & 15, z & 15);
-
-            if (tag == null) {
-                return AIR;
-            }
-
-            return getBlockData(tag);
+            BlockData data = getChunkSection(x >> 4, y >> 4, z >> 4).getBlockDataAt(x & 15, y & 15, z & 15);
+            return data == null ? AIR : data;
         } catch (Throwable e) {
             Iris.reportError(e);
 
@@ -23,13 +23,17 @@ import com.volmit.iris.util.nbt.mca.palette.MCAPaletteAccess;
 import com.volmit.iris.util.nbt.tag.ByteArrayTag;
 import com.volmit.iris.util.nbt.tag.CompoundTag;
 import com.volmit.iris.util.nbt.tag.ListTag;
+import org.bukkit.block.data.BlockData;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 public class Section {
     private CompoundTag data;
     private MCAPaletteAccess palette;
     private byte[] blockLight;
     private byte[] skyLight;
+    private final Map<CompoundTag, BlockData> resolved = new IdentityHashMap<>();
 
     public Section(CompoundTag sectionRoot, int dataVersion) {
         this(sectionRoot, dataVersion, LoadFlags.ALL_DATA);
@@ -88,6 +92,20 @@ public class Section {
         }
     }
 
+    /**
+     * Fetches the block state at a block location in this Section as BlockData.
+     * Palette entries are resolved once per section and reused for every block that points at them.
+     *
+     * @param blockX The x-coordinate of the block in this Section
+     * @param blockY The y-coordinate of the block in this Section
+     * @param blockZ The z-coordinate of the block in this Section
+     * @return The shared block data of this block, or null if there is none. Do not modify it.
+     */
+    public synchronized BlockData getBlockDataAt(int blockX, int blockY, int blockZ) {
+        CompoundTag tag = getBlockStateAt(blockX, blockY, blockZ);
+        return tag == null ? null : resolved.computeIfAbsent(tag, NBTWorld::getBlockData);
+    }
+
     /**
      * Attempts to add a block state for a specific block location in this Section.
      *
@@ -0,0 +1,310 @@
+/*
+ * Iris is a World Generator for Minecraft Bukkit Servers
+ * Copyright (c) 2022 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.volmit.iris.util.scheduling;
+
+import com.volmit.iris.Iris;
+import com.volmit.iris.core.IrisSettings;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Paces main thread work that belongs to a chunk, like tile states, custom blocks and block updates.
+ * Work is batched per chunk and drained once per tick, chunks closest to a player first, until
+ * {@code world.updateTickBudgetMS} is spent. Whatever is left runs on the following ticks.
+ * Batches that waited longer than {@link #MAX_WAIT_TICKS} go first in submission order so far chunks can't starve.
+ * <p>
+ * Batches of chunks or worlds that are not loaded anymore are dropped, running them would load the chunk
+ * synchronously. Nothing is persisted either, so callers must only record work as done from inside the task
+ * and queue it again the next time the chunk loads. {@link #claim(World, int, int, Object)} keeps a chunk from
+ * being queued twice for the same work in the meantime.
+ * <p>
+ * Tasks can be submitted from any thread, they always run on the main thread.
+ */
+public class MainThreadWorkQueue {
+    private static final int MAX_WAIT_TICKS = 100;
+    private static final Map<Key, Batch> batches = new ConcurrentHashMap<>();
+    private static final Set<Claim> claims = ConcurrentHashMap.newKeySet();
+    private static final AtomicInteger backlog = new AtomicInteger();
+    private static final AtomicBoolean scheduled = new AtomicBoolean();
+    private static final AtomicLong order = new AtomicLong();
+    private static final AtomicLong ticks = new AtomicLong();
+    private static volatile long deadline = Long.MAX_VALUE;
+
+    /**
+     * Queue a task for a chunk
+     *
+     * @param world the world of the chunk
+     * @param x     the chunk x
+     * @param z     the chunk z
+     * @param task  the task
+     */
+    public static void submit(World world, int x, int z, Runnable task) {
+        submitSteps(world, x, z, () -> {
+            task.run();
+            return true;
+        });
+    }
+
+    /**
+     * Queue a task for a chunk unless a task with the same tag is still pending for it. The tag is
+     * released once the task ran or was dropped.
+     *
+     * @param world the world of the chunk
+     * @param x     the chunk x
+     * @param z     the chunk z
+     * @param tag   what the task does, compared with equals
+     * @param task  the task
+     */
+    public static void submit(World world, int x, int z, Object tag, Runnable task) {
+        if (!claim(world, x, z, tag)) {
+            return;
+        }
+
+        submit(world, x, z, () -> {
+            try {
+                task.run();
+            } finally {
+                release(world, x, z, tag);
+            }
+        });
+    }
+
+    /**
+     * Claim a tag for a chunk, for work that spans more than one task. The claim is released with
+     * {@link #release(World, int, int, Object)} or when the batch of the chunk is dropped.
+     *
+     * @param world the world of the chunk
+     * @param x     the chunk x
+     * @param z     the chunk z
+     * @param tag   what the work does, compared with equals
+     * @return true if the tag was not claimed for this chunk yet
+     */
+    public static boolean claim(World world, int x, int z, Object tag) {
+        return claims.add(new Claim(new Key(world.getName(), x, z), tag));
+    }
+
+    /**
+     * Release a tag claimed with {@link #claim(World, int, int, Object)}
+     *
+     * @param world the world of the chunk
+     * @param x     the chunk x
+     * @param z     the chunk z
+     * @param tag   the claimed tag
+     */
+    public static void release(World world, int x, int z, Object tag) {
+        claims.remove(new Claim(new Key(world.getName(), x, z), tag));
+    }
+
+    /**
+     * Queue a task that may take more than one tick. The step is called again on later ticks until it
+     * returns true, it should only return false once {@link #isOverBudget()} says so.
+     *
+     * @param world the world of the chunk
+     * @param x     the chunk x
+     * @param z     the chunk z
+     * @param step  the step, returns true once the task is done
+     */
+    public static void submitSteps(World world, int x, int z, BooleanSupplier step) {
+        batches.compute(new Key(world.getName(), x, z), (k, b) -> {
+            if (b == null) {
+                b = new Batch(world, x, z, order.getAndIncrement(), ticks.get());
+            }
+
+            b.tasks.add(step);
+            return b;
+        });
+        backlog.incrementAndGet();
+        schedule();
+    }
+
+    /**
+     * @return the amount of tasks waiting to run
+     */
+    public static int getBacklog() {
+        return backlog.get();
+    }
+
+    /**
+     * @return the amount of chunks with tasks waiting to run
+     */
+    public static int getBacklogChunks() {
+        return batches.size();
+    }
+
+    /**
+     * Only meaningful inside a running task.
+     *
+     * @return true if the current tick has no budget left
+     */
+    public static boolean isOverBudget() {
+        return System.nanoTime() > deadline;
+    }
+
+    private static void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            J.s(MainThreadWorkQueue::tick, 1);
+        }
+    }
+
+    private static void tick() {
+        ticks.incrementAndGet();
+        deadline = System.nanoTime() + (long) (IrisSettings.get().getWorld().getUpdateTickBudgetMS() * 1_000_000D);
+
+        try {
+            for (Batch i : prioritize()) {
+                if (!drain(i)) {
+                    break;
+                }
+            }
+        } finally {
+            deadline = Long.MAX_VALUE;
+            scheduled.set(false);
+
+            if (!batches.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    private static boolean drain(Batch batch) {
+        BooleanSupplier step;
+
+        while ((step = batch.tasks.peek()) != null) {
+            if (isOverBudget()) {
+                return false;
+            }
+
+            boolean done;
+
+            try {
+                done = step.getAsBoolean();
+            } catch (Throwable e) {
+                Iris.reportError(e);
+                e.printStackTrace();
+                done = true;
+            }
+
+            if (!done) {
+                return false;
+            }
+
+            batch.tasks.poll();
+            backlog.decrementAndGet();
+        }
+
+        batches.computeIfPresent(batch.key(), (k, b) -> b.tasks.isEmpty() ? null : b);
+        return true;
+    }
+
+    private static List<Batch> prioritize() {
+        Map<String, List<int[]>> players = new HashMap<>();
+        List<Batch> list = new ArrayList<>();
+        long now = ticks.get();
+
+        for (Batch i : batches.values()) {
+            if (Bukkit.getWorld(i.world.getUID()) == null) {
+                drop(i);
+                continue;
+            }
+
+            if (!i.world.isChunkLoaded(i.x, i.z)) {
+                drop(i);
+                continue;
+            }
+
+            list.add(i);
+            i.aged = now - i.tick > MAX_WAIT_TICKS;
+            i.distance = Long.MAX_VALUE;
+
+            for (int[] p : players.computeIfAbsent(i.world.getName(), (k) -> positions(i.world))) {
+                long dx = p[0] - i.x;
+                long dz = p[1] - i.z;
+                i.distance = Math.min(i.distance, dx * dx + dz * dz);
+            }
+        }
+
+        list.sort(Comparator.<Batch, Boolean>comparing(i -> !i.aged)
+                .thenComparingLong(i -> i.aged ? 0 : i.distance)
+                .thenComparingLong(i -> i.order));
+        return list;
+    }
+
+    private static void drop(Batch batch) {
+        Key key = batch.key();
+
+        if (batches.remove(key, batch)) {
+            backlog.addAndGet(-batch.tasks.size());
+            claims.removeIf(i -> i.key.equals(key));
+        }
+    }
+
+    private static List<int[]> positions(World world) {
+        List<int[]> positions = new ArrayList<>();
+
+        for (Player i : world.getPlayers()) {
+            positions.add(new int[]{i.getLocation().getBlockX() >> 4, i.getLocation().getBlockZ() >> 4});
+        }
+
+        return positions;
+    }
+
+    private record Key(String world, int x, int z) {
+    }
+
+    private record Claim(Key key, Object tag) {
+    }
+
+    private static class Batch {
+        private final World world;
+        private final int x;
+        private final int z;
+        private final long order;
+        private final long tick;
+        private final Queue<BooleanSupplier> tasks = new ConcurrentLinkedQueue<>();
+        private long distance;
+        private boolean aged;
+
+        private Batch(World world, int x, int z, long order, long tick) {
+            this.world = world;
+            this.x = x;
+            this.z = z;
+            this.order = order;
+            this.tick = tick;
+        }
+
+        private Key key() {
+            return new Key(world.getName(), x, z);
+        }
+    }
+}
@@ -20,12 +20,12 @@ package com.volmit.iris.util.stream;
 
 import com.volmit.iris.Iris;
 import com.volmit.iris.core.loader.IrisData;
-import com.volmit.iris.engine.data.cache.Cache;
 import com.volmit.iris.engine.framework.Engine;
 import com.volmit.iris.engine.object.IRare;
 import com.volmit.iris.engine.object.IrisStyledRange;
 import com.volmit.iris.util.collection.KList;
 import com.volmit.iris.util.context.ChunkContext;
+import com.volmit.iris.util.documentation.ChunkCoordinates;
 import com.volmit.iris.util.function.Function2;
 import com.volmit.iris.util.function.Function3;
 import com.volmit.iris.util.function.Function4;
@@ -438,7 +438,7 @@ public interface ProceduralStream<T> extends ProceduralLayer, Interpolated<T> {
     }
 
     default void fill(Hunk<T> h, double x, double y, double z, int parallelism) {
-        h.compute3D(parallelism, (xx, yy, zz, hh) -> hh.iterate((xv, yv, zv) -> hh.set(xv, yv, zv, get(xx + xv + x, yy + yv + y, zz + zv + z))));
+        h.compute3D(parallelism, (xx, yy, zz, hh) -> hh.forEachXYZ((xv, yv, zv) -> hh.set(xv, yv, zv, get(xx + xv + x, yy + yv + y, zz + zv + z))));
     }
 
     default <V> void fill2D(Hunk<V> h, double x, double z, V v, int parallelism) {
@@ -502,7 +502,7 @@ public interface ProceduralStream<T> extends ProceduralLayer, Interpolated<T> {
     }
 
     default <V> void fill3D(Hunk<V> h, double x, int y, double z, V v, int parallelism) {
-        h.compute3D(parallelism, (xx, yy, zz, hh) -> hh.iterate((xv, yv, zv) ->
+        h.compute3D(parallelism, (xx, yy, zz, hh) -> hh.forEachXYZ((xv, yv, zv) ->
         {
             if (getDouble(xx + xv + x, yy + yv + y, zz + zv + z) > 0.5) {
                 hh.set(xv, yv, zv, v);
@@ -511,7 +511,7 @@ public interface ProceduralStream<T> extends ProceduralLayer, Interpolated<T> {
     }
 
     default <V> void fill3D(Hunk<V> h, double x, int y, double z, ProceduralStream<V> v, int parallelism) {
-        h.compute3D(parallelism, (xx, yy, zz, hh) -> hh.iterate((xv, yv, zv) ->
+        h.compute3D(parallelism, (xx, yy, zz, hh) -> hh.forEachXYZ((xv, yv, zv) ->
         {
             if (getDouble(xx + xv + x, yy + yv + y, zz + zv + z) > 0.5) {
                 hh.set(xv, yv, zv, v.get(xx + xv + x, yy + yv + y, zz + zv + z));
@@ -559,6 +559,14 @@ public interface ProceduralStream<T> extends ProceduralLayer, Interpolated<T> {
 
     ProceduralStream<?> getSource();
 
+    /**
+     * Fill the 256 columns of a chunk in row-major order (index = z * 16 + x)
+     *
+     * @param x the chunk x
+     * @param z the chunk z
+     * @param c the array to fill
+     */
+    @ChunkCoordinates
     default void fillChunk(int x, int z, T[] c) {
         if (c.length != 256) {
             throw new RuntimeException("Not 256 Length for chunk get");
@@ -567,9 +575,9 @@ public interface ProceduralStream<T> extends ProceduralLayer, Interpolated<T> {
         int xs = x << 4;
         int zs = z << 4;
 
-        for (int i = 0; i < 16; i++) {
-            for (int j = 0; j < 16; j++) {
-                c[Cache.to1D(i + xs, j + zs, 0, 16, 16)] = get(i + xs, j + zs);
+        for (int j = 0; j < 16; j++) {
+            for (int i = 0; i < 16; i++) {
+                c[(j << 4) + i] = get(i + xs, j + zs);
             }
         }
     }
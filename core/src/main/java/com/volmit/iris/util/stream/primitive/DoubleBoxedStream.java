@@ -0,0 +1,67 @@
+/*
+ * Iris is a World Generator for Minecraft Bukkit Servers
+ * Copyright (c) 2022 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.volmit.iris.util.stream.primitive;
+
+import com.volmit.iris.util.stream.BasicStream;
+import lombok.Getter;
+
+/**
+ * Bridges a {@link DoubleStream2D} into the generic stream api. Generic operators read through
+ * {@link #getDouble(double, double)} which never boxes, only {@link #get(double, double)} does.
+ * The primitive stream is 2D only, 3D lookups ignore y.
+ */
+public class DoubleBoxedStream extends BasicStream<Double> {
+    @Getter
+    private final DoubleStream2D doubleSource;
+
+    public DoubleBoxedStream(DoubleStream2D doubleSource) {
+        super();
+        this.doubleSource = doubleSource;
+    }
+
+    @Override
+    public double toDouble(Double t) {
+        return t;
+    }
+
+    @Override
+    public Double fromDouble(double d) {
+        return d;
+    }
+
+    @Override
+    public double getDouble(double x, double z) {
+        return doubleSource.getDouble(x, z);
+    }
+
+    @Override
+    public double getDouble(double x, double y, double z) {
+        return doubleSource.getDouble(x, z);
+    }
+
+    @Override
+    public Double get(double x, double z) {
+        return doubleSource.getDouble(x, z);
+    }
+
+    @Override
+    public Double get(double x, double y, double z) {
+        return doubleSource.getDouble(x, z);
+    }
+}
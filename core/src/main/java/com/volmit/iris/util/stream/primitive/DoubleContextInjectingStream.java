@@ -0,0 +1,52 @@
+/*
+ * Iris is a World Generator for Minecraft Bukkit Servers
+ * Copyright (c) 2022 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.volmit.iris.util.stream.primitive;
+
+import com.volmit.iris.util.context.ChunkContext;
+import com.volmit.iris.util.context.IrisContext;
+import com.volmit.iris.util.function.Function3;
+
+public class DoubleContextInjectingStream implements DoubleStream2D {
+    private final DoubleStream2D source;
+    private final Function3<ChunkContext, Integer, Integer, Double> contextAccessor;
+
+    public DoubleContextInjectingStream(DoubleStream2D source, Function3<ChunkContext, Integer, Integer, Double> contextAccessor) {
+        this.source = source;
+        this.contextAccessor = contextAccessor;
+    }
+
+    @Override
+    public double getDouble(double x, double z) {
+        IrisContext context = IrisContext.get();
+
+        if (context != null) {
+            ChunkContext chunkContext = context.getChunkContext();
+
+            if (chunkContext != null && (int) x >> 4 == chunkContext.getX() >> 4 && (int) z >> 4 == chunkContext.getZ() >> 4) {
+                Double t = contextAccessor.apply(chunkContext, (int) x & 15, (int) z & 15);
+
+                if (t != null) {
+                    return t;
+                }
+            }
+        }
+
+        return source.getDouble(x, z);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Iris is a World Generator for Minecraft Bukkit Servers
+ * Copyright (c) 2022 Arcane Arts (Volmit Software)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.volmit.iris.util.stream.primitive;
+
+import com.volmit.iris.engine.framework.Engine;
+import com.volmit.iris.util.context.ChunkContext;
+import com.volmit.iris.util.function.Function3;
+import com.volmit.iris.util.interpolation.IrisInterpolation;
+import com.volmit.iris.util.stream.ProceduralStream;
+
+/**
+ * A primitive 2D double stream. Unlike {@link ProceduralStream} of Double, no operator in this
+ * chain ever boxes a sample. Use {@link #boxed()} to bridge into the generic stream api and
+ * {@link #of(ProceduralStream)} to bridge back.
+ */
+@FunctionalInterface
+public interface DoubleStream2D {
+    double getDouble(double x, double z);
+
+    static DoubleStream2D of(ProceduralStream<?> stream) {
+        if (stream instanceof DoubleBoxedStream boxed) {
+            return boxed.getDoubleSource();
+        }
+
+        return stream::getDouble;
+    }
+
+    static DoubleStream2D constant(double v) {
+        return (x, z) -> v;
+    }
+
+    default DoubleStream2D add(double a) {
+        return (x, z) -> getDouble(x, z) + a;
+    }
+
+    default DoubleStream2D add(DoubleStream2D a) {
+        return (x, z) -> getDouble(x, z) + a.getDouble(x, z);
+    }
+
+    default DoubleStream2D subtract(double a) {
+        return (x, z) -> getDouble(x, z) - a;
+    }
+
+    default DoubleStream2D multiply(double a) {
+        return (x, z) -> getDouble(x, z) * a;
+    }
+
+    default DoubleStream2D multiply(DoubleStream2D a) {
+        return (x, z) -> getDouble(x, z) * a.getDouble(x, z);
+    }
+
+    default DoubleStream2D max(double a) {
+        return (x, z) -> Math.max(getDouble(x, z), a);
+    }
+
+    default DoubleStream2D min(double a) {
+        return (x, z) -> Math.min(getDouble(x, z), a);
+    }
+
+    default DoubleStream2D clamp(double min, double max) {
+        return (x, z) -> Math.max(Math.min(getDouble(x, z), max), min);
+    }
+
+    default DoubleStream2D fit(double min, double max) {
+        return fit(0, 1, min, max);
+    }
+
+    default DoubleStream2D fit(double inMin, double inMax, double min, double max) {
+        return (x, z) -> min + ((max - min) * ((getDouble(x, z) - inMin) / (inMax - inMin)));
+    }
+
+    default DoubleStream2D zoom(double f) {
+        return (x, z) -> getDouble(x / f, z / f);
+    }
+
+    default DoubleStream2D round() {
+        return (x, z) -> Math.round(getDouble(x, z));
+    }
+
+    default DoubleStream2D slope(int range) {
+        return (x, z) -> {
+            double height = getDouble(x, z);
+            double dx = getDouble(x + range, z) - height;
+            double dy = getDouble(x, z + range) - height;
+
+            return Math.sqrt(dx * dx + dy * dy);
+        };
+    }
+
+    default DoubleStream2D bilinear(int rx, int rz) {
+        return (x, z) -> {
+            int fx = (int) Math.floor(x / rx);
+            int fz = (int) Math.floor(z / rz);
+            int x1 = fx * rx;
+            int z1 = fz * rz;
+            int x2 = (fx + 1) * rx;
+            int z2 = (fz + 1) * rz;
+
+            return IrisInterpolation.blerp(
+                    getDouble(x1, z1),
+                    getDouble(x2, z1),
+                    getDouble(x1, z2),
+                    getDouble(x2, z2),
+                    IrisInterpolation.rangeScale(0, 1, x1, x2, x),
+                    IrisInterpolation.rangeScale(0, 1, z1, z2, z));
+        };
+    }
+
+    default DoubleStream2D contextInjecting(Function3<ChunkContext, Integer, Integer, Double> contextAccessor) {
+        return new DoubleContextInjectingStream(this, contextAccessor);
+    }
+
+    default DoubleStream2D cache2D(String name, Engine engine, int size) {
+        return new DoubleCachedStream2D(name, engine, this, size);
+    }
+
+    default ProceduralStream<Double> boxed() {
+        return new DoubleBoxedStream(this);
+    }
+}
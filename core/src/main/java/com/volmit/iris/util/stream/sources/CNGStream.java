@@ -59,6 +59,11 @@ public class CNGStream extends BasicLayer implements ProceduralStream<Double> {
         return null;
     }
 
+    @Override
+    public double getDouble(double x, double z) {
+        return cng.noise((x + getOffsetX()) / getZoom(), (z + getOffsetZ()) / getZoom());
+    }
+
     @Override
     public Double get(double x, double z) {
         return cng.noise((x + getOffsetX()) / getZoom(), (z + getOffsetZ()) / getZoom());
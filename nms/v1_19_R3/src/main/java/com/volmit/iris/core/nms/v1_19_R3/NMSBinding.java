@@ -8,6 +8,7 @@ import java.io.DataOutputStream;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Vector;
@@ -24,6 +25,7 @@ import org.bukkit.craftbukkit.v1_19_R3.CraftWorld;
 import org.bukkit.craftbukkit.v1_19_R3.block.CraftBlock;
 import org.bukkit.craftbukkit.v1_19_R3.block.data.CraftBlockData;
 import org.bukkit.craftbukkit.v1_19_R3.entity.CraftDolphin;
+import org.bukkit.craftbukkit.v1_19_R3.generator.CraftChunkData;
 import org.bukkit.craftbukkit.v1_19_R3.inventory.CraftItemStack;
 import org.bukkit.entity.Dolphin;
 import org.bukkit.entity.Entity;
@@ -62,11 +64,15 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.level.biome.BiomeSource;
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.EntityBlock;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.ChunkStatus;
 import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.levelgen.Heightmap;
 import sun.misc.Unsafe;
 
 public class NMSBinding implements INMSBinding {
@@ -458,6 +464,96 @@ public class NMSBinding implements INMSBinding {
         });
     }
 
+    @Override
+    public boolean setSections(ChunkGenerator.ChunkData data, BlockData[] palette, char[][] sections) {
+        if (!(data instanceof CraftChunkData c)) {
+            return false;
+        }
+
+        ChunkAccess access = c.getHandle();
+        LevelChunkSection[] target = access.getSections();
+        if (target.length != sections.length) {
+            return false;
+        }
+
+        BlockState[] states = new BlockState[palette.length];
+        for (int i = 1; i < palette.length; i++) {
+            if (!(palette[i] instanceof CraftBlockData d)) {
+                return false;
+            }
+
+            states[i] = d.getState();
+        }
+
+        int x = access.getPos().getMinBlockX();
+        int z = access.getPos().getMinBlockZ();
+
+        for (int s = 0; s < sections.length; s++) {
+            char[] ids = sections[s];
+            if (ids == null) {
+                continue;
+            }
+
+            LevelChunkSection section = target[s];
+            int y = access.getMinBuildHeight() + (s << 4);
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == 0) {
+                    continue;
+                }
+
+                BlockState state = states[ids[i]];
+                section.setBlockState(i & 15, i >> 8, (i >> 4) & 15, state, false);
+                if (state.getLightEmission() != 0 && access instanceof ProtoChunk proto) {
+                    proto.addLight(new BlockPos(x + (i & 15), y + (i >> 8), z + ((i >> 4) & 15)));
+                }
+                if (state.hasBlockEntity()) {
+                    BlockPos pos = new BlockPos(x + (i & 15), y + (i >> 8), z + ((i >> 4) & 15));
+                    BlockEntity entity = ((EntityBlock) state.getBlock()).newBlockEntity(pos, state);
+                    if (entity != null) {
+                        access.setBlockEntity(entity);
+                    }
+                }
+            }
+        }
+
+        Heightmap.primeHeightmaps(access, EnumSet.of(Heightmap.Types.OCEAN_FLOOR_WG, Heightmap.Types.WORLD_SURFACE_WG));
+        return true;
+    }
+
+    @Override
+    public boolean setBlocks(Chunk chunk, int[] positions, BlockData[] blocks, int count) {
+        for (int i = 0; i < count; i++) {
+            if (!(blocks[i] instanceof CraftBlockData)) {
+                return false;
+            }
+        }
+
+        ServerLevel level = ((CraftWorld) chunk.getWorld()).getHandle();
+        LevelChunk c = level.getChunk(chunk.getX(), chunk.getZ());
+        int bx = chunk.getX() << 4;
+        int bz = chunk.getZ() << 4;
+        int minY = level.getMinBuildHeight();
+
+        for (int i = 0; i < count; i++) {
+            int p = positions[i];
+            BlockPos pos = new BlockPos(bx + (p & 15), minY + (p >>> 8), bz + ((p >> 4) & 15));
+
+            BlockState state = ((CraftBlockData) blocks[i]).getState();
+            BlockState previous = c.getBlockState(pos);
+
+            if (previous.hasBlockEntity() && previous.getBlock() != state.getBlock()) {
+                level.removeBlockEntity(pos);
+            }
+
+            if (c.setBlockState(pos, state, false) != null) {
+                level.getChunkSource().blockChanged(pos);
+                level.getChunkSource().getLightEngine().checkBlock(pos);
+            }
+        }
+
+        return true;
+    }
+
     public ItemStack applyCustomNbt(ItemStack itemStack, KMap<String, Object> customNbt) throws IllegalArgumentException {
         if (customNbt != null && !customNbt.isEmpty()) {
             net.minecraft.world.item.ItemStack s = CraftItemStack.asNMSCopy(itemStack);